@@ -0,0 +1,83 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比不同{@link io.github.hhy50.linker.annotations.Backend}生成的已知成员访问
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackendBenchmark {
+
+    /**
+     * The type Backend state.
+     */
+    @State(Scope.Thread)
+    public static class BackendState {
+
+        /**
+         * The Backend.
+         */
+        @Param({"direct", "methodhandle", "reflect"})
+        public String backend;
+
+        /**
+         * The Shape.
+         */
+        @Param({"MONOMORPHIC", "MEGAMORPHIC"})
+        public Shape shape;
+
+        /**
+         * The Linkers.
+         */
+        public BackendLinkers.Linker[] linkers;
+
+        private int index;
+
+        /**
+         * Sets up.
+         *
+         * @throws LinkerException the linker exception
+         */
+        @Setup(Level.Trial)
+        public void setup() throws LinkerException {
+            linkers = new BackendLinkers.Linker[ReceiverState.SLOTS];
+            for (int i = 0; i < linkers.length; i++) {
+                linkers[i] = LinkerFactory.createLinker(BackendLinkers.of(backend), Receivers.create(shape.typeOf(i)));
+            }
+        }
+
+        /**
+         * 轮询下一个槽位
+         *
+         * @return the int
+         */
+        public int next() {
+            return index = (index + 1) & (ReceiverState.SLOTS - 1);
+        }
+    }
+
+    @Benchmark
+    public int getter(BackendState state) {
+        return state.linkers[state.next()].getValue();
+    }
+
+    @Benchmark
+    public void setter(BackendState state) {
+        int i = state.next();
+        state.linkers[i].setValue(i);
+    }
+
+    @Benchmark
+    public int invoker(BackendState state) {
+        int i = state.next();
+        return state.linkers[i].compute(i);
+    }
+}
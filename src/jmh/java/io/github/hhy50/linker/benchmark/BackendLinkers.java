@@ -0,0 +1,57 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.annotations.Backend;
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+/**
+ * 同样的成员使用不同的{@link Backend}生成, value是private字段, compute是public方法
+ */
+public final class BackendLinkers {
+
+    /**
+     * The interface Linker.
+     */
+    public interface Linker {
+
+        @Field.Getter("value")
+        int getValue();
+
+        @Field.Setter("value")
+        void setValue(int value);
+
+        int compute(int x);
+    }
+
+    @Backend("direct")
+    @Target.Bind("io.github.hhy50.linker.benchmark.Receivers$Base")
+    public interface Direct extends Linker {
+    }
+
+    @Backend("methodhandle")
+    @Target.Bind("io.github.hhy50.linker.benchmark.Receivers$Base")
+    public interface MethodHandle extends Linker {
+    }
+
+    @Backend("reflect")
+    @Target.Bind("io.github.hhy50.linker.benchmark.Receivers$Base")
+    public interface Reflect extends Linker {
+    }
+
+    /**
+     * 按名称获取define接口
+     *
+     * @param backend the backend
+     * @return the define
+     */
+    public static Class<? extends Linker> of(String backend) {
+        switch (backend) {
+            case "methodhandle":
+                return MethodHandle.class;
+            case "reflect":
+                return Reflect.class;
+            default:
+                return Direct.class;
+        }
+    }
+}
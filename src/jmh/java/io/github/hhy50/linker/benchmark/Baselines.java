@@ -0,0 +1,39 @@
+package io.github.hhy50.linker.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * 手写的反射和MethodHandle基准
+ */
+final class Baselines {
+
+    static final Field VALUE_FIELD;
+    static final Method COMPUTE_METHOD;
+    static final Constructor<Receivers.R0> R0_CONSTRUCTOR;
+    static final MethodHandle VALUE_GETTER;
+    static final MethodHandle VALUE_SETTER;
+    static final MethodHandle COMPUTE;
+
+    static {
+        try {
+            VALUE_FIELD = Receivers.Base.class.getDeclaredField("value");
+            VALUE_FIELD.setAccessible(true);
+            COMPUTE_METHOD = Receivers.Base.class.getMethod("compute", int.class);
+            R0_CONSTRUCTOR = Receivers.R0.class.getConstructor();
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VALUE_GETTER = lookup.unreflectGetter(VALUE_FIELD);
+            VALUE_SETTER = lookup.unreflectSetter(VALUE_FIELD);
+            COMPUTE = lookup.unreflect(COMPUTE_METHOD);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Baselines() {
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.annotations.Method;
+
+/**
+ * The interface Constructor linker.
+ */
+public interface ConstructorLinker {
+
+    @Method.Constructor
+    ConstructorLinker newInstance();
+}
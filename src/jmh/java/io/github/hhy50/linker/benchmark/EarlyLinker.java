@@ -0,0 +1,27 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Method;
+import io.github.hhy50.linker.annotations.Target;
+
+/**
+ * 所有成员在生成时都可以确定, 对应EarlyFieldGetter/EarlyFieldSetter/EarlyMethodInvoker
+ */
+@Target.Bind("io.github.hhy50.linker.benchmark.Receivers$Base")
+public interface EarlyLinker {
+
+    @Field.Getter("value")
+    int getValue();
+
+    @Field.Setter("value")
+    void setValue(int value);
+
+    @Field.Getter("next.next.value")
+    int getNestedValue();
+
+    int compute(int x);
+
+    @Method.Name("compute")
+    @Method.InvokeSuper("io.github.hhy50.linker.benchmark.Receivers$Base")
+    int superCompute(int x);
+}
@@ -0,0 +1,112 @@
+package io.github.hhy50.linker.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字段读写: EarlyFieldGetter/EarlyFieldSetter, RuntimeFieldGetter/RuntimeFieldSetter, 链式表达式和@Runtime
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessBenchmark {
+
+    @Benchmark
+    public int directGetter(ReceiverState state) {
+        return state.receivers[state.next()].getValue();
+    }
+
+    @Benchmark
+    public int reflectGetter(ReceiverState state) throws IllegalAccessException {
+        return Baselines.VALUE_FIELD.getInt(state.receivers[state.next()]);
+    }
+
+    @Benchmark
+    public int methodHandleGetter(ReceiverState state) throws Throwable {
+        return (int) Baselines.VALUE_GETTER.invokeExact(state.receivers[state.next()]);
+    }
+
+    @Benchmark
+    public int earlyGetter(ReceiverState state) {
+        return state.early[state.next()].getValue();
+    }
+
+    @Benchmark
+    public int runtimeGetter(ReceiverState state) {
+        return state.runtime[state.next()].getValue();
+    }
+
+    @Benchmark
+    public int payloadGetter(ReceiverState state) {
+        return state.payload[state.next()].getValue();
+    }
+
+    /**
+     * 同一个linker实例, 字段值的实际类型不断变化
+     */
+    @Benchmark
+    public int payloadGetterFlip(ReceiverState state) {
+        state.flipHolder.setPayload(state.receivers[state.next()]);
+        return state.flipLinker.getValue();
+    }
+
+    @Benchmark
+    public int indyPayloadGetter(ReceiverState state) {
+        return state.indyPayload[state.next()].getValue();
+    }
+
+    @Benchmark
+    public int indyPayloadGetterFlip(ReceiverState state) {
+        state.flipHolder.setPayload(state.receivers[state.next()]);
+        return state.indyFlipLinker.getValue();
+    }
+
+    @Benchmark
+    public int earlyNestedGetter(ReceiverState state) {
+        return state.early[state.next()].getNestedValue();
+    }
+
+    @Benchmark
+    public int runtimeNestedGetter(ReceiverState state) {
+        return state.runtime[state.next()].getNestedValue();
+    }
+
+    @Benchmark
+    public void directSetter(ReceiverState state) {
+        int i = state.next();
+        state.receivers[i].setValue(i);
+    }
+
+    @Benchmark
+    public void reflectSetter(ReceiverState state) throws IllegalAccessException {
+        int i = state.next();
+        Baselines.VALUE_FIELD.setInt(state.receivers[i], i);
+    }
+
+    @Benchmark
+    public void methodHandleSetter(ReceiverState state) throws Throwable {
+        int i = state.next();
+        Baselines.VALUE_SETTER.invokeExact(state.receivers[i], i);
+    }
+
+    @Benchmark
+    public void earlySetter(ReceiverState state) {
+        int i = state.next();
+        state.early[i].setValue(i);
+    }
+
+    @Benchmark
+    public void runtimeSetter(ReceiverState state) {
+        int i = state.next();
+        state.runtime[i].setValue(i);
+    }
+
+    @Benchmark
+    public void payloadSetter(ReceiverState state) {
+        int i = state.next();
+        state.payload[i].setValue(i);
+    }
+}
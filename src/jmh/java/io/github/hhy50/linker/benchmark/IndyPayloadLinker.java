@@ -0,0 +1,23 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.InvokeDynamic;
+import io.github.hhy50.linker.annotations.Method;
+import io.github.hhy50.linker.annotations.Target;
+
+/**
+ * 与{@link PayloadLinker}相同, 运行时成员使用invokedynamic调用点
+ */
+@InvokeDynamic
+@Target.Bind("io.github.hhy50.linker.benchmark.Receivers$Holder")
+public interface IndyPayloadLinker {
+
+    @Field.Getter("payload.value")
+    int getValue();
+
+    @Field.Setter("payload.value")
+    void setValue(int value);
+
+    @Method.Name("payload.compute")
+    int compute(int x);
+}
@@ -0,0 +1,65 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 创建linker(已生成过实现类)以及@Method.Constructor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkerCreationBenchmark {
+
+    /**
+     * The type Constructor state.
+     */
+    @State(Scope.Thread)
+    public static class ConstructorState {
+        /**
+         * The Linker.
+         */
+        public ConstructorLinker linker;
+
+        /**
+         * Sets up.
+         *
+         * @throws LinkerException the linker exception
+         */
+        @Setup
+        public void setup() throws LinkerException {
+            linker = LinkerFactory.createStaticLinker(ConstructorLinker.class, Receivers.R0.class);
+        }
+    }
+
+    @Benchmark
+    public EarlyLinker createEarlyLinker(ReceiverState state) throws LinkerException {
+        return LinkerFactory.createLinker(EarlyLinker.class, state.receivers[state.next()]);
+    }
+
+    @Benchmark
+    public RuntimeLinker createRuntimeLinker(ReceiverState state) throws LinkerException {
+        return LinkerFactory.createLinker(RuntimeLinker.class, state.receivers[state.next()]);
+    }
+
+    @Benchmark
+    public Object directConstructor() {
+        return new Receivers.R0();
+    }
+
+    @Benchmark
+    public Object reflectConstructor() throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        return Baselines.R0_CONSTRUCTOR.newInstance();
+    }
+
+    @Benchmark
+    public ConstructorLinker linkerConstructor(ConstructorState state) {
+        return state.linker.newInstance();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.hhy50.linker.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法调用: EarlyMethodInvoker, RuntimeMethodInvoker, @Method.InvokeSuper和@Runtime
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvokeBenchmark {
+
+    @Benchmark
+    public int directInvoke(ReceiverState state) {
+        int i = state.next();
+        return state.receivers[i].compute(i);
+    }
+
+    @Benchmark
+    public int reflectInvoke(ReceiverState state) throws InvocationTargetException, IllegalAccessException {
+        int i = state.next();
+        return (int) Baselines.COMPUTE_METHOD.invoke(state.receivers[i], i);
+    }
+
+    @Benchmark
+    public int methodHandleInvoke(ReceiverState state) throws Throwable {
+        int i = state.next();
+        return (int) Baselines.COMPUTE.invokeExact(state.receivers[i], i);
+    }
+
+    @Benchmark
+    public int earlyInvoke(ReceiverState state) {
+        int i = state.next();
+        return state.early[i].compute(i);
+    }
+
+    @Benchmark
+    public int earlyInvokeSuper(ReceiverState state) {
+        int i = state.next();
+        return state.early[i].superCompute(i);
+    }
+
+    @Benchmark
+    public int runtimeInvoke(ReceiverState state) {
+        int i = state.next();
+        return state.runtime[i].compute(i);
+    }
+
+    @Benchmark
+    public int payloadInvoke(ReceiverState state) {
+        int i = state.next();
+        return state.payload[i].compute(i);
+    }
+
+    @Benchmark
+    public int indyPayloadInvoke(ReceiverState state) {
+        int i = state.next();
+        return state.indyPayload[i].compute(i);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Method;
+import io.github.hhy50.linker.annotations.Target;
+
+/**
+ * payload声明为Object, payload之后的成员对应RuntimeFieldGetter/RuntimeFieldSetter/RuntimeMethodInvoker
+ */
+@Target.Bind("io.github.hhy50.linker.benchmark.Receivers$Holder")
+public interface PayloadLinker {
+
+    @Field.Getter("payload.value")
+    int getValue();
+
+    @Field.Setter("payload.value")
+    void setValue(int value);
+
+    @Method.Name("payload.compute")
+    int compute(int x);
+}
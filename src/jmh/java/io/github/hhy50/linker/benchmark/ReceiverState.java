@@ -0,0 +1,109 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 每个线程持有一组接收者以及与之绑定的linker, 按照{@link Shape}决定接收者的类型分布
+ */
+@State(Scope.Thread)
+public class ReceiverState {
+
+    /**
+     * 槽位数量, 必须是2的幂
+     */
+    static final int SLOTS = Receivers.TYPES;
+
+    /**
+     * The Shape.
+     */
+    @Param({"MONOMORPHIC", "BIMORPHIC", "MEGAMORPHIC"})
+    public Shape shape;
+
+    /**
+     * The Receivers.
+     */
+    public Receivers.Base[] receivers;
+
+    /**
+     * The Holders.
+     */
+    public Receivers.Holder[] holders;
+
+    /**
+     * The Early linkers.
+     */
+    public EarlyLinker[] early;
+
+    /**
+     * The Runtime linkers.
+     */
+    public RuntimeLinker[] runtime;
+
+    /**
+     * The Payload linkers.
+     */
+    public PayloadLinker[] payload;
+
+    /**
+     * The invokedynamic payload linkers.
+     */
+    public IndyPayloadLinker[] indyPayload;
+
+    /**
+     * 同一个linker, 每次调用前替换payload的类型
+     */
+    public Receivers.Holder flipHolder;
+
+    /**
+     * The Flip linker.
+     */
+    public PayloadLinker flipLinker;
+
+    /**
+     * The invokedynamic flip linker.
+     */
+    public IndyPayloadLinker indyFlipLinker;
+
+    private int index;
+
+    /**
+     * Sets up.
+     *
+     * @throws LinkerException the linker exception
+     */
+    @Setup(Level.Trial)
+    public void setup() throws LinkerException {
+        receivers = new Receivers.Base[SLOTS];
+        holders = new Receivers.Holder[SLOTS];
+        early = new EarlyLinker[SLOTS];
+        runtime = new RuntimeLinker[SLOTS];
+        payload = new PayloadLinker[SLOTS];
+        indyPayload = new IndyPayloadLinker[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            receivers[i] = Receivers.create(shape.typeOf(i));
+            holders[i] = new Receivers.Holder(receivers[i]);
+            early[i] = LinkerFactory.createLinker(EarlyLinker.class, receivers[i]);
+            runtime[i] = LinkerFactory.createLinker(RuntimeLinker.class, receivers[i]);
+            payload[i] = LinkerFactory.createLinker(PayloadLinker.class, holders[i]);
+            indyPayload[i] = LinkerFactory.createLinker(IndyPayloadLinker.class, holders[i]);
+        }
+        flipHolder = new Receivers.Holder(receivers[0]);
+        flipLinker = LinkerFactory.createLinker(PayloadLinker.class, flipHolder);
+        indyFlipLinker = LinkerFactory.createLinker(IndyPayloadLinker.class, flipHolder);
+    }
+
+    /**
+     * 轮询下一个槽位
+     *
+     * @return the int
+     */
+    public int next() {
+        return index = (index + 1) & (SLOTS - 1);
+    }
+}
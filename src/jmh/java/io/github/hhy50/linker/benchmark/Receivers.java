@@ -0,0 +1,161 @@
+package io.github.hhy50.linker.benchmark;
+
+/**
+ * The type Receivers.
+ */
+public final class Receivers {
+
+    /**
+     * 多态场景下使用的接收者类型数量
+     */
+    public static final int TYPES = 8;
+
+    /**
+     * The type Base.
+     */
+    public static abstract class Base {
+        private int value;
+        protected Base next;
+
+        /**
+         * Compute int.
+         *
+         * @param x the x
+         * @return the int
+         */
+        public int compute(int x) {
+            return x + value;
+        }
+
+        /**
+         * Gets value.
+         *
+         * @return the value
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * Sets value.
+         *
+         * @param value the value
+         */
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * The type Holder.
+     */
+    public static class Holder {
+        private Object payload;
+
+        /**
+         * Instantiates a new Holder.
+         *
+         * @param payload the payload
+         */
+        public Holder(Object payload) {
+            this.payload = payload;
+        }
+
+        /**
+         * Sets payload.
+         *
+         * @param payload the payload
+         */
+        public void setPayload(Object payload) {
+            this.payload = payload;
+        }
+    }
+
+    public static class R0 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x);
+        }
+    }
+
+    public static class R1 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 1;
+        }
+    }
+
+    public static class R2 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 2;
+        }
+    }
+
+    public static class R3 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 3;
+        }
+    }
+
+    public static class R4 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 4;
+        }
+    }
+
+    public static class R5 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 5;
+        }
+    }
+
+    public static class R6 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 6;
+        }
+    }
+
+    public static class R7 extends Base {
+        @Override
+        public int compute(int x) {
+            return super.compute(x) + 7;
+        }
+    }
+
+    /**
+     * 创建第i种类型的接收者, 并挂上两层next用于链式表达式
+     *
+     * @param type the type
+     * @return the base
+     */
+    public static Base create(int type) {
+        Base base = newReceiver(type);
+        base.setValue(type);
+        base.next = newReceiver(type);
+        base.next.next = newReceiver(type);
+        base.next.next.setValue(type);
+        return base;
+    }
+
+    private static Base newReceiver(int type) {
+        switch (type) {
+            case 0: return new R0();
+            case 1: return new R1();
+            case 2: return new R2();
+            case 3: return new R3();
+            case 4: return new R4();
+            case 5: return new R5();
+            case 6: return new R6();
+            case 7: return new R7();
+            default: throw new IllegalArgumentException("type: "+type);
+        }
+    }
+
+    private Receivers() {
+    }
+}
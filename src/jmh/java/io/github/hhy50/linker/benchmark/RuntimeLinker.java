@@ -0,0 +1,22 @@
+package io.github.hhy50.linker.benchmark;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Runtime;
+
+/**
+ * 所有成员都在运行时解析
+ */
+@Runtime
+public interface RuntimeLinker {
+
+    @Field.Getter("value")
+    int getValue();
+
+    @Field.Setter("value")
+    void setValue(int value);
+
+    @Field.Getter("next.next.value")
+    int getNestedValue();
+
+    int compute(int x);
+}
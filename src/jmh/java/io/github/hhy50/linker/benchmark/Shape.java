@@ -0,0 +1,36 @@
+package io.github.hhy50.linker.benchmark;
+
+/**
+ * 调用点上接收者类型的分布
+ */
+public enum Shape {
+    /**
+     * 单一类型
+     */
+    MONOMORPHIC(1),
+    /**
+     * 两种类型交替
+     */
+    BIMORPHIC(2),
+    /**
+     * 超过JIT内联缓存上限的类型数量
+     */
+    MEGAMORPHIC(Receivers.TYPES),
+    ;
+
+    private final int types;
+
+    Shape(int types) {
+        this.types = types;
+    }
+
+    /**
+     * 第i个槽位上的接收者类型
+     *
+     * @param i the
+     * @return the int
+     */
+    public int typeOf(int i) {
+        return i % types;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.hhy50.linker;
+
+import io.github.hhy50.linker.exceptions.LinkerException;
+import io.github.hhy50.linker.util.AnnotationUtils;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 自动连接的返回值使用的工厂缓存.
+ * <p>
+ * 实现类中每个返回的连接器类型保存一个static final实例, 按照返回值的类型缓存实现类的工厂, 第一次之后创建连接器只需要一次分配
+ */
+public class LinkerCache {
+
+    private final Class<?> define;
+
+    private final boolean runtime;
+
+    /**
+     * 工厂引用define的ClassLoader中的实现类, 按照ClassLoader的父子关系保存在define或者目标类上
+     */
+    private final TargetClassValue<MethodHandle> factories;
+
+    private LinkerCache(Class<?> define) {
+        this.define = define;
+        this.runtime = AnnotationUtils.isRuntime(define);
+        this.factories = new TargetClassValue<MethodHandle>(define) {
+            @Override
+            protected MethodHandle computeValue(Class<?> targetClass) {
+                try {
+                    return LinkerFactory.create(define, targetClass, classLoader());
+                } catch (Exception e) {
+                    throw new IllegalStateException("create factory of '"+define.getName()+"' for '"+targetClass.getName()+"' failed", e);
+                }
+            }
+        };
+    }
+
+    private ClassLoader classLoader() {
+        ClassLoader cl = define.getClassLoader();
+        return cl == null ? ClassLoader.getSystemClassLoader() : cl;
+    }
+
+    /**
+     * Of linker cache.
+     *
+     * @param define the define
+     * @return the linker cache
+     */
+    public static LinkerCache of(Class<?> define) {
+        return new LinkerCache(define);
+    }
+
+    /**
+     * 创建连接器, 和{@link LinkerFactory#createLinker(Class, Object)}一样
+     *
+     * @param target the target
+     * @return the linker
+     * @throws LinkerException the linker exception
+     */
+    public Object create(Object target) throws LinkerException {
+        if (target == null) {
+            throw new NullPointerException("target");
+        }
+        try {
+            Class<?> targetClass = target.getClass();
+            // @Runtime接口开启分层时工厂会在升级之后变化, 不能缓存
+            MethodHandle factory = runtime && TieredFactories.enabled() ? TieredFactories.get(define, targetClass, classLoader()) : factories.get(targetClass);
+            return LinkerFactory.newInstance(factory, target, null);
+        } catch (Exception e) {
+            throw new LinkerException("create linker exception", e);
+        }
+    }
+}
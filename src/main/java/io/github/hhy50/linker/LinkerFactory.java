@@ -5,11 +5,21 @@ import io.github.hhy50.linker.define.ClassDefineParse;
 import io.github.hhy50.linker.define.InterfaceImplClassDefine;
 import io.github.hhy50.linker.define.cl.SysLinkerClassLoader;
 import io.github.hhy50.linker.exceptions.LinkerException;
+import io.github.hhy50.linker.exceptions.VerifyException;
+import io.github.hhy50.linker.util.AnnotationUtils;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <p>LinkerFactory class.</p>
@@ -19,6 +29,36 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class LinkerFactory {
 
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object.class, Class.class);
+
+    /**
+     * 实现类的工厂保存在实现类上, 不会阻止隐藏类被卸载
+     */
+    private static final ClassValue<MethodHandle> FACTORIES = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> implClass) {
+            try {
+                return newFactory(implClass);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("not found constructor of '"+implClass.getName()+"'", e);
+            }
+        }
+    };
+
+    /**
+     * 访问器的单例, 同样保存在实现类上
+     */
+    private static final ClassValue<Object> ACCESSORS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> implClass) {
+            try {
+                return newInstance(FACTORIES.get(implClass), null, null);
+            } catch (Exception e) {
+                throw new IllegalStateException("create accessor '"+implClass.getName()+"' failed", e);
+            }
+        }
+    };
+
     /**
      * <p>createLinker.</p>
      *
@@ -37,8 +77,9 @@ public class LinkerFactory {
             if (cl == null) {
                 cl = ClassLoader.getSystemClassLoader();
             }
-            Class<?> gClass = create(define, target.getClass(), cl);
-            return (T) newInstance(target, null, gClass);
+            MethodHandle factory = AnnotationUtils.isRuntime(define)
+                    ? TieredFactories.get(define, target.getClass(), cl) : create(define, target.getClass(), cl);
+            return (T) newInstance(factory, target, null);
         } catch (Exception e) {
             throw new LinkerException("create linker exception", e);
         }
@@ -60,8 +101,8 @@ public class LinkerFactory {
                 cl = ClassLoader.getSystemClassLoader();
             }
 
-            Class<?> gClass = create(define, targetClass, cl);
-            return (T) newInstance(null, targetClass, gClass);
+            MethodHandle factory = create(define, targetClass, cl);
+            return (T) newInstance(factory, null, targetClass);
         } catch (Exception e) {
             throw new LinkerException("create linker exception", e);
         }
@@ -78,31 +119,143 @@ public class LinkerFactory {
      */
     public static <T> T createStaticLinker(Class<T> define, ClassLoader cl) throws LinkerException {
         try {
-            Class<?> gClass = create(define, cl);
-            return (T) newInstance(null, null, gClass);
+            MethodHandle factory = create(define, cl);
+            return (T) newInstance(factory, null, null);
         } catch (Exception e) {
             throw new LinkerException("create linker exception", e);
         }
     }
 
     /**
-     * Create class.
+     * 获取访问器, 每个实现类只有一个实例.
+     *
+     * @param <T>    the type parameter
+     * @param define the define, must be annotated by @Target.Accessor
+     * @return the accessor
+     * @throws LinkerException the linker exception
+     */
+    public static <T> T createAccessor(Class<T> define) throws LinkerException {
+        if (!AnnotationUtils.isAccessor(define)) {
+            throw new VerifyException("use @Target.Accessor designated '"+define.getName()+"' as accessor");
+        }
+        try {
+            ClassLoader cl = define.getClassLoader();
+            if (cl == null) {
+                cl = ClassLoader.getSystemClassLoader();
+            }
+            InterfaceImplClassDefine defineClass = ClassDefineParse.parseClass(define, cl);
+            return (T) ACCESSORS.get(BytecodeClassLoader.load(defineClass, cl));
+        } catch (Exception e) {
+            throw new LinkerException("create accessor exception", e);
+        }
+    }
+
+    /**
+     * 预热, 并行生成并定义实现类, 等待全部完成.
+     * <p>
+     * 预热的是@Target.Bind声明的目标类, 运行时目标对象是它的子类时仍然会重新生成.
+     * 任务在ForkJoinPool.commonPool()中执行, 当前线程会阻塞到全部完成, 不希望占用commonPool时使用{@link #preloadAsync(Collection, Executor)}
+     *
+     * @param defines the defines
+     * @return the preload report
+     */
+    public static PreloadReport preload(Class<?>... defines) {
+        return preloadAsync(Arrays.asList(defines)).join();
+    }
+
+    /**
+     * 预热包(包含子包)下所有声明了@Target.Bind或者@Runtime的接口, 等待全部完成.
+     * <p>
+     * 和{@link #preload(Class[])}一样在commonPool中执行并阻塞当前线程
+     *
+     * @param cl          the class loader to scan
+     * @param packageName the package name
+     * @return the preload report
+     * @throws LinkerException the linker exception
+     */
+    public static PreloadReport preload(ClassLoader cl, String packageName) throws LinkerException {
+        try {
+            return preloadAsync(Preloader.scan(cl, packageName)).join();
+        } catch (IOException e) {
+            throw new LinkerException("scan package '"+packageName+"' exception", e);
+        }
+    }
+
+    /**
+     * 在ForkJoinPool.commonPool()中异步预热.
+     *
+     * @param defines the defines
+     * @return the future
+     */
+    public static CompletableFuture<PreloadReport> preloadAsync(Collection<Class<?>> defines) {
+        return preloadAsync(defines, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 在指定线程池中异步预热.
+     *
+     * @param defines  the defines
+     * @param executor the executor
+     * @return the future
+     */
+    public static CompletableFuture<PreloadReport> preloadAsync(Collection<Class<?>> defines, Executor executor) {
+        return Preloader.preload(defines, executor);
+    }
+
+    /**
+     * 异步扫描并预热包(包含子包)下的接口.
+     *
+     * @param cl          the class loader to scan
+     * @param packageName the package name
+     * @return the future
+     */
+    public static CompletableFuture<PreloadReport> preloadAsync(ClassLoader cl, String packageName) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return Preloader.scan(cl, packageName);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ForkJoinPool.commonPool()).thenCompose(LinkerFactory::preloadAsync);
+    }
+
+    /**
+     * Create factory.
      *
      * @param define      the define
      * @param targetClass the target class
      * @param cl          the cl
-     * @return the class
-     * @throws ClassNotFoundException the class not found exception
+     * @return the factory, type is (Object, Class)Object
      * @throws IOException            the io exception
+     * @throws ReflectiveOperationException the reflective operation exception
      */
-    static Class<?> create(Class<?> define, Class<?> targetClass, ClassLoader cl) throws ClassNotFoundException, IOException {
+    static MethodHandle create(Class<?> define, Class<?> targetClass, ClassLoader cl) throws IOException, ReflectiveOperationException {
         InterfaceImplClassDefine defineClass = ClassDefineParse.parseClass(define, targetClass);
-        return BytecodeClassLoader.load(cl, defineClass.getClassName(), defineClass.getBytecode());
+        return getFactory(defineClass, cl);
     }
 
-    static Class<?> create(Class<?> define, ClassLoader cl) throws ClassNotFoundException, IOException {
+    static MethodHandle create(Class<?> define, ClassLoader cl) throws IOException, ReflectiveOperationException {
         InterfaceImplClassDefine defineClass = ClassDefineParse.parseClass(define, cl);
-        return BytecodeClassLoader.load(cl, defineClass.getClassName(), defineClass.getBytecode());
+        return getFactory(defineClass, cl);
+    }
+
+    static MethodHandle getFactory(InterfaceImplClassDefine defineClass, ClassLoader cl) {
+        return FACTORIES.get(BytecodeClassLoader.load(defineClass, cl));
+    }
+
+    /**
+     * 将实现类的构造器统一适配成(Object, Class)Object
+     */
+    private static MethodHandle newFactory(Class<?> implClass) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(implClass, MethodType.methodType(void.class, Object.class, Class.class));
+        } catch (NoSuchMethodException e) {
+            constructor = lookup.findConstructor(implClass, MethodType.methodType(void.class, Object.class));
+            constructor = MethodHandles.dropArguments(constructor, 1, Class.class);
+        }
+        return constructor.asType(FACTORY_TYPE);
     }
 
     /**
@@ -116,13 +269,13 @@ public class LinkerFactory {
      */
     static <T> T createSysLinker(Class<T> define, Object obj) throws LinkerException {
         try {
-            Class<?> gClass;
+            MethodHandle factory;
             if (obj == null) {
-                gClass = create(define, SysLinkerClassLoader.getInstance());
+                factory = create(define, SysLinkerClassLoader.getInstance());
             } else {
-                gClass = create(define, obj.getClass(), SysLinkerClassLoader.getInstance());
+                factory = create(define, obj.getClass(), SysLinkerClassLoader.getInstance());
             }
-            return (T) newInstance(obj, null, gClass);
+            return (T) newInstance(factory, obj, null);
         } catch (Exception e) {
             throw new LinkerException("create linker exception", e);
         }
@@ -141,14 +294,13 @@ public class LinkerFactory {
         }
     }
 
-    static Object newInstance(Object obj, Class<?> clazz, Class<?> implClass) throws InvocationTargetException, InstantiationException, IllegalAccessException {
-        Constructor<?>[] constructors = implClass.getConstructors();
-        if (constructors.length == 1) {
-            return constructors[0].newInstance(obj);
-        }
-        if (constructors[0].getParameterCount() == 2) {
-            return constructors[0].newInstance(obj, clazz);
+    static Object newInstance(MethodHandle factory, Object obj, Class<?> clazz) throws Exception {
+        try {
+            return (Object) factory.invokeExact(obj, clazz);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
         }
-        return constructors[1].newInstance(obj, clazz);
     }
 }
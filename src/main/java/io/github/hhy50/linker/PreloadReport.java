@@ -0,0 +1,125 @@
+package io.github.hhy50.linker;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 预热结果, 记录每个接口生成实现类的耗时.
+ */
+public class PreloadReport {
+
+    private final List<Entry> entries;
+    private final long elapsedNanos;
+
+    /**
+     * Instantiates a new Preload report.
+     *
+     * @param entries      the entries
+     * @param elapsedNanos the elapsed nanos
+     */
+    PreloadReport(List<Entry> entries, long elapsedNanos) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets entries.
+     *
+     * @return the entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets failures.
+     *
+     * @return the failures
+     */
+    public List<Entry> getFailures() {
+        return entries.stream().filter(entry -> !entry.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * 整体耗时(并行执行, 不等于每个接口耗时的和)
+     *
+     * @return the elapsed nanos
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("preloaded ").append(entries.size()).append(" linkers in ")
+                .append(elapsedNanos / 1_000_000).append("ms");
+        for (Entry entry : entries) {
+            sb.append("\n  ").append(entry);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 单个接口的预热结果.
+     */
+    public static class Entry {
+        private final Class<?> define;
+        private final long nanos;
+        private final Throwable error;
+
+        /**
+         * Instantiates a new Entry.
+         *
+         * @param define the define
+         * @param nanos  the nanos
+         * @param error  the error, null if success
+         */
+        Entry(Class<?> define, long nanos, Throwable error) {
+            this.define = define;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        /**
+         * Gets define.
+         *
+         * @return the define
+         */
+        public Class<?> getDefine() {
+            return define;
+        }
+
+        /**
+         * 解析、生成并定义实现类的耗时
+         *
+         * @return the nanos
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Gets error.
+         *
+         * @return the error, null if success
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * Is success boolean.
+         *
+         * @return the boolean
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return define.getName()+": "+(nanos / 1_000)+"us"+(error == null ? "" : " failed, "+error);
+        }
+    }
+}
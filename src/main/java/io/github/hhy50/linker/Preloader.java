@@ -0,0 +1,93 @@
+package io.github.hhy50.linker;
+
+import io.github.hhy50.linker.util.AnnotationUtils;
+import io.github.hhy50.linker.util.ClassScanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 预热, 在ForkJoin线程池中并行生成并定义实现类.
+ * <p>
+ * 和createLinker走同样的缓存, 同一个接口同时只会生成一次, 可以和正常调用并发执行
+ */
+class Preloader {
+
+    /**
+     * 扫描包(包含子包)下声明了@Target.Bind或者@Runtime的接口
+     *
+     * @param cl          the class loader
+     * @param packageName the package name
+     * @return the defines
+     * @throws IOException the io exception
+     */
+    static List<Class<?>> scan(ClassLoader cl, String packageName) throws IOException {
+        List<Class<?>> defines = new ArrayList<>();
+        for (String className : ClassScanner.scan(cl, packageName)) {
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(className, false, cl);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            if (clazz.isInterface() && (AnnotationUtils.isRuntime(clazz) || AnnotationUtils.getBind(clazz) != null)) {
+                defines.add(clazz);
+            }
+        }
+        return defines;
+    }
+
+    /**
+     * 并行预热
+     *
+     * @param defines  the defines
+     * @param executor the executor
+     * @return the future
+     */
+    static CompletableFuture<PreloadReport> preload(Collection<Class<?>> defines, Executor executor) {
+        long start = System.nanoTime();
+        List<CompletableFuture<PreloadReport.Entry>> futures = new ArrayList<>(defines.size());
+        for (Class<?> define : defines) {
+            futures.add(CompletableFuture.supplyAsync(() -> preload(define), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            List<PreloadReport.Entry> entries = new ArrayList<>(futures.size());
+            for (CompletableFuture<PreloadReport.Entry> future : futures) {
+                entries.add(future.join());
+            }
+            return new PreloadReport(entries, System.nanoTime()-start);
+        });
+    }
+
+    /**
+     * 生成单个接口的实现类, 异常记录在结果中
+     */
+    private static PreloadReport.Entry preload(Class<?> define) {
+        long start = System.nanoTime();
+        try {
+            ClassLoader cl = define.getClassLoader();
+            if (cl == null) {
+                cl = ClassLoader.getSystemClassLoader();
+            }
+            // 和createLinker使用同一个解析缓存: @Runtime接口按照define的ClassLoader缓存, 其他按照目标类缓存
+            Class<?> targetClass;
+            if (AnnotationUtils.isRuntime(define)) {
+                targetClass = Object.class;
+            } else {
+                String bind = AnnotationUtils.getBind(define);
+                if (bind == null) {
+                    throw new IllegalArgumentException("'"+define.getName()+"' is not annotated by @Target.Bind or @Runtime");
+                }
+                targetClass = Class.forName(bind, false, cl);
+            }
+            LinkerFactory.create(define, targetClass, cl);
+            return new PreloadReport.Entry(define, System.nanoTime()-start, null);
+        } catch (Throwable e) {
+            return new PreloadReport.Entry(define, System.nanoTime()-start, e);
+        }
+    }
+}
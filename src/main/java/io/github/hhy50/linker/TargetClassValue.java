@@ -0,0 +1,66 @@
+package io.github.hhy50.linker;
+
+import io.github.hhy50.linker.define.ClassDefineParse;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 按照目标类保存的值, 和解析结果一样保存在define和目标类中生命周期较短的一方上.
+ * <p>
+ * 值通常引用define的ClassLoader中的实现类, 目标类的ClassLoader是define的ClassLoader或者它的父级时保存在define上,
+ * 否则保存在目标类上, 不会因为目标类导致define的ClassLoader无法卸载
+ *
+ * @param <T> the type of value
+ * @see ClassDefineParse#ownedByDefine(Class, Class)
+ */
+abstract class TargetClassValue<T> {
+
+    private final Class<?> define;
+
+    /**
+     * 生命周期不短于define的目标类
+     */
+    private final ConcurrentMap<Class<?>, T> owned = new ConcurrentHashMap<>();
+
+    private final ClassValue<T> values = new ClassValue<T>() {
+        @Override
+        protected T computeValue(Class<?> targetClass) {
+            return TargetClassValue.this.computeValue(targetClass);
+        }
+    };
+
+    TargetClassValue(Class<?> define) {
+        this.define = define;
+    }
+
+    /**
+     * 获取目标类对应的值, 不存在时创建
+     *
+     * @param targetClass the target class
+     * @return the value
+     */
+    T get(Class<?> targetClass) {
+        if (!ClassDefineParse.ownedByDefine(define, targetClass)) {
+            return values.get(targetClass);
+        }
+        T value = owned.get(targetClass);
+        if (value == null) {
+            // 创建时可能递归创建其他目标类的值, 不使用computeIfAbsent
+            value = computeValue(targetClass);
+            T prev = owned.putIfAbsent(targetClass, value);
+            if (prev != null) {
+                value = prev;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 创建目标类对应的值
+     *
+     * @param targetClass the target class
+     * @return the value
+     */
+    protected abstract T computeValue(Class<?> targetClass);
+}
@@ -0,0 +1,130 @@
+package io.github.hhy50.linker;
+
+import io.github.hhy50.linker.define.BytecodeClassLoader;
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link io.github.hhy50.linker.annotations.Runtime}接口的分层实现.
+ * <p>
+ * 运行时实现类对所有目标类都是同一个, 每次调用都要检查目标对象的类型并查找成员. 按照目标类统计创建连接器的次数,
+ * 达到阈值之后针对这个目标类生成早绑定的实现类, 之后这个目标类的连接器都使用早绑定的实现, 其他目标类仍然使用运行时实现.
+ * 生成失败(比如目标类中没有接口声明的成员)时这个目标类一直使用运行时实现.
+ * 阈值通过-Dlinker.tiered.threshold修改, 小于等于0时关闭
+ */
+class TieredFactories {
+
+    /**
+     * 升级为早绑定实现的阈值
+     */
+    static final int THRESHOLD = Integer.getInteger("linker.tiered.threshold", 64);
+
+    /**
+     * 每个接口的统计保存在接口上
+     */
+    private static final ClassValue<TieredFactories> TIERED = new ClassValue<TieredFactories>() {
+        @Override
+        protected TieredFactories computeValue(Class<?> define) {
+            return new TieredFactories(define);
+        }
+    };
+
+    private final Class<?> define;
+
+    /**
+     * 运行时实现类的工厂, 和所有目标类共用, 只创建一次
+     */
+    private volatile RuntimeFactory runtime;
+
+    /**
+     * 每个目标类的统计, 引用了早绑定的实现类, 保存在define和目标类中生命周期较短的一方上
+     */
+    private final TargetClassValue<Profile> profiles;
+
+    private TieredFactories(Class<?> define) {
+        this.define = define;
+        this.profiles = new TargetClassValue<Profile>(define) {
+            @Override
+            protected Profile computeValue(Class<?> targetClass) {
+                return new Profile();
+            }
+        };
+    }
+
+    /**
+     * 获取目标类使用的工厂, 没有升级时返回运行时实现类的工厂
+     *
+     * @param define      the define, must be annotated by @Runtime
+     * @param targetClass the class of target object
+     * @param cl          the class loader
+     * @return the factory, type is (Object, Class)Object
+     * @throws IOException                  the io exception
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    static MethodHandle get(Class<?> define, Class<?> targetClass, ClassLoader cl) throws IOException, ReflectiveOperationException {
+        TieredFactories tiered = TIERED.get(define);
+        return enabled() ? tiered.factory(targetClass, cl) : tiered.runtimeFactory(cl);
+    }
+
+    /**
+     * 是否开启分层
+     *
+     * @return the boolean
+     */
+    static boolean enabled() {
+        return THRESHOLD > 0;
+    }
+
+    private MethodHandle factory(Class<?> targetClass, ClassLoader cl) throws IOException, ReflectiveOperationException {
+        Profile profile = profiles.get(targetClass);
+        MethodHandle early = profile.early;
+        if (early != null) {
+            return early;
+        }
+        // 只有达到阈值的线程生成, 生成期间其他线程继续使用运行时实现
+        if (!profile.failed && profile.count.incrementAndGet() == THRESHOLD) {
+            try {
+                InterfaceImplClassDefine defineClass = ClassDefineParse.parseEarlyClass(define, targetClass);
+                return profile.early = LinkerFactory.getFactory(defineClass, cl);
+            } catch (Exception | LinkageError e) {
+                profile.failed = true;
+            }
+        }
+        return runtimeFactory(cl);
+    }
+
+    private MethodHandle runtimeFactory(ClassLoader cl) throws IOException, ReflectiveOperationException {
+        RuntimeFactory runtime = this.runtime;
+        if (runtime == null || runtime.cl != cl) {
+            // 运行时实现类的解析结果和目标类无关
+            this.runtime = runtime = new RuntimeFactory(cl, LinkerFactory.create(define, Object.class, cl));
+        }
+        return runtime.factory;
+    }
+
+    /**
+     * 运行时实现类的工厂和创建它的类加载器
+     */
+    private static class RuntimeFactory {
+        private final ClassLoader cl;
+        private final MethodHandle factory;
+
+        private RuntimeFactory(ClassLoader cl, MethodHandle factory) {
+            this.cl = cl;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * 目标类的统计
+     */
+    private static class Profile {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile MethodHandle early;
+        private volatile boolean failed;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.hhy50.linker.annotations;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 指定已知成员(字段和方法)的访问方式, 可以声明在接口或者方法上, 方法上的优先.
+ * <p>
+ * 内置direct(默认, 可以访问时直接GETFIELD/INVOKEVIRTUAL, 否则使用MethodHandle)、methodhandle和reflect,
+ * 其他实现通过ServiceLoader注册{@code io.github.hhy50.linker.generate.backend.AccessBackend}.
+ * 没有声明时使用{@code -Dlinker.backend}. 运行时成员不受影响.
+ * 方法上声明时只作用于表达式的最后一个成员, 链式表达式前面的字段使用接口上的访问方式.
+ * 占位符(rows[$0])后面的字段在调用方的方法体中展开, 总是使用direct, 方法上声明其他方式时解析失败
+ *
+ * @author hanhaiyang
+ * @version $Id : $Id
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Backend {
+    /**
+     * backend的名称
+     *
+     * @return the string
+     */
+    String value();
+}
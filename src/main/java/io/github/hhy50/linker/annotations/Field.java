@@ -44,4 +44,67 @@ public interface Field {
          */
         String value() default "";
     }
+
+    /**
+     * <p>原子的比较并设置字段值</p>
+     * 字段类型必须是int, long或者引用类型, 不能是final
+     * 这个注解方法的返回值类型必须为boolean, 参数为(期望值, 新值)
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @interface CompareAndSet {
+        /**
+         * Value string.
+         *
+         * @return the string
+         */
+        String value() default "";
+    }
+
+    /**
+     * <p>原子的增加字段值, 返回增加之前的值</p>
+     * 字段类型必须是int或者long, 不能是final
+     * 这个注解方法的返回值不能是void, 并且参数的长度必须为1
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @interface GetAndAdd {
+        /**
+         * Value string.
+         *
+         * @return the string
+         */
+        String value() default "";
+    }
+
+    /**
+     * <p>以volatile语义获取字段值</p>
+     * 这个注解方法的返回值不能是void, 并且参数的长度必须为0
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @interface GetVolatile {
+        /**
+         * Value string.
+         *
+         * @return the string
+         */
+        String value() default "";
+    }
+
+    /**
+     * <p>以release语义设置字段值</p>
+     * 字段不能是final
+     * 这个注解方法的返回值类型必须为void, 并且参数的长度必须为1
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @interface SetRelease {
+        /**
+         * Value string.
+         *
+         * @return the string
+         */
+        String value() default "";
+    }
 }
@@ -0,0 +1,18 @@
+package io.github.hhy50.linker.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * <p>运行时成员使用invokedynamic调用点</p>
+ * 每一个运行时成员会生成一个invokedynamic调用点, 调用点按照接收者类型链接guardWithTest链,
+ * 未命中时重新链接. 稳定的调用点可以被JIT当做常量内联
+ *
+ * @author hanhaiyang
+ * @version $Id : $Id
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@java.lang.annotation.Target({ElementType.TYPE})
+public @interface InvokeDynamic {
+}
@@ -24,4 +24,15 @@ public interface Target {
          */
         String value();
     }
+
+    /**
+     * 无状态的访问器, 和{@link Bind}一起使用.
+     * <p>
+     * 方法的第一个参数是目标对象(@Method.Constructor除外), 通过{@code LinkerFactory.createAccessor}获取,
+     * 每个实现类只有一个实例, 可以用于大量对象的访问
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @java.lang.annotation.Target(ElementType.TYPE)
+    public @interface Accessor {
+    }
 }
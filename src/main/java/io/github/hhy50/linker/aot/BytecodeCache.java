@@ -0,0 +1,167 @@
+package io.github.hhy50.linker.aot;
+
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+import io.github.hhy50.linker.generate.backend.AccessBackends;
+import io.github.hhy50.linker.runtime.LazyHandles;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 实现类字节码的磁盘缓存.
+ * <p>
+ * 通过-Dlinker.cache.path指定缓存目录, 未指定时不启用. 缓存项以define接口、目标类的class文件和库版本的摘要命名,
+ * 同时保存生成时依赖类的摘要, 命中时跳过解析和字节码生成. 写入先写临时文件再原子重命名, 多个进程共享目录时不会读到写了一半的缓存
+ */
+public class BytecodeCache {
+
+    private static final int MAGIC = 0x4C4E4B43;
+    private static final String SUFFIX = ".lkc";
+    private static final String VERSION = libraryVersion();
+
+    /**
+     * 查找缓存的实现类.
+     *
+     * @param define      the define
+     * @param targetClass the target class
+     * @param className   the impl class name
+     * @param cl          the class loader of the target class
+     * @return the interface impl class define, or null if the cache is disabled, absent or stale
+     */
+    public static InterfaceImplClassDefine load(Class<?> define, Class<?> targetClass, String className, ClassLoader cl) {
+        Path entry = entryPath(define, targetClass, className, cl);
+        if (entry == null || !Files.isRegularFile(entry)) {
+            return null;
+        }
+        try {
+            // 缓存项很小, 直接读取, 不需要映射
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(entry));
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+                return null;
+            }
+            byte[] fingerprint = slice(buffer);
+            if (fingerprint == null || !Fingerprint.matches(fingerprint, cl, define.getClassLoader())) {
+                return null;
+            }
+            byte[] bytecode = slice(buffer);
+            if (bytecode == null) {
+                return null;
+            }
+            InterfaceImplClassDefine defineClass = new InterfaceImplClassDefine(define, targetClass,
+                () -> ClassDefineParse.parseMethodDefines(define, targetClass, cl));
+            defineClass.setClassName(className);
+            return defineClass.setBytecode(bytecode);
+        } catch (IOException | RuntimeException e) {
+            // 缓存损坏时当作未命中, 重新生成后会覆盖
+            return null;
+        }
+    }
+
+    /**
+     * 写入缓存, 失败时忽略.
+     *
+     * @param defineClass the generated define class
+     * @param cl          the class loader used for generation
+     */
+    public static void store(InterfaceImplClassDefine defineClass, ClassLoader cl) {
+        Path entry = entryPath(defineClass.getDefine(), defineClass.getTargetClass(), defineClass.getClassName(), cl);
+        if (entry == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            byte[] fingerprint = Fingerprint.of(defineClass, cl);
+            byte[] bytecode = defineClass.getBytecode();
+            ByteBuffer buffer = ByteBuffer.allocate(12+fingerprint.length+bytecode.length);
+            buffer.putInt(MAGIC)
+                    .putInt(fingerprint.length).put(fingerprint)
+                    .putInt(bytecode.length).put(bytecode);
+
+            Files.createDirectories(entry.getParent());
+            tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            Files.write(tmp, buffer.array());
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException e) {
+            // ignore, 缓存只是加速启动
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 缓存文件路径, 缓存未启用或者读取不到define和目标类的class文件时返回null
+     */
+    private static Path entryPath(Class<?> define, Class<?> targetClass, String className, ClassLoader cl) {
+        String cacheDir = System.getProperty("linker.cache.path");
+        if (cacheDir == null || cacheDir.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] defineBytes = Fingerprint.read(define.getClassLoader(), Fingerprint.classPath(define.getName()));
+            if (defineBytes == null) {
+                return null;
+            }
+            byte[] targetBytes = new byte[0];
+            if (targetClass != Object.class) {
+                targetBytes = Fingerprint.read(cl, Fingerprint.classPath(targetClass.getName()));
+                if (targetBytes == null) {
+                    return null;
+                }
+            }
+            byte[] header = (Fingerprint.FORMAT+'\n'+VERSION+'\n'+AccessBackends.defaultName()+'\n'+LazyHandles.ENABLED+'\n'
+                    +RuntimeMemberTable.CACHE_DEPTH+'\n'+className+'\n').getBytes(StandardCharsets.UTF_8);
+            return Paths.get(cacheDir, Fingerprint.sha256(header, defineBytes, targetBytes)+SUFFIX);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] slice(ByteBuffer buffer) {
+        if (buffer.remaining() < 4) {
+            return null;
+        }
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String libraryVersion() {
+        try (InputStream in = BytecodeCache.class.getResourceAsStream("/META-INF/maven/io.github.hhy50/reflect-linker/pom.properties")) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                String version = properties.getProperty("version");
+                if (version != null) {
+                    return version;
+                }
+            }
+        } catch (IOException ignored) {
+        }
+        String version = BytecodeCache.class.getPackage().getImplementationVersion();
+        return version == null ? "dev" : version;
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.hhy50.linker.aot;
+
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+import io.github.hhy50.linker.define.MethodDefine;
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.field.ElementRef;
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.define.method.EarlyMethodRef;
+import io.github.hhy50.linker.define.method.MethodRef;
+import io.github.hhy50.linker.generate.backend.AccessBackends;
+import io.github.hhy50.linker.runtime.LazyHandles;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 实现类的摘要, 记录生成时读取过成员的类的class文件摘要.
+ * <p>
+ * 校验时只读取class文件资源, 不会加载任何类
+ */
+class Fingerprint {
+
+    /**
+     * 生成代码的格式版本, 生成的字节码发生变化时需要修改
+     */
+    static final String FORMAT = "7";
+
+    private static final String FORMAT_KEY = "format";
+    private static final String BACKEND_KEY = "backend";
+    private static final String LAZY_HANDLES_KEY = "lazyHandles";
+    private static final String CACHE_DEPTH_KEY = "cacheDepth";
+    private static final String CLASS_KEY_PREFIX = "class.";
+
+    /**
+     * 生成实现类的摘要
+     *
+     * @param defineClass the generated define class
+     * @param cl          the class loader used for generation
+     * @return the fingerprint
+     * @throws IOException the io exception
+     */
+    static byte[] of(InterfaceImplClassDefine defineClass, ClassLoader cl) throws IOException {
+        Map<String, String> digests = new TreeMap<>();
+        ClassLoader defineLoader = defineClass.getDefine().getClassLoader();
+        for (String depClass : dependencies(defineClass)) {
+            String digest = digest(cl, defineLoader, depClass);
+            if (digest == null) {
+                throw new IOException("can not read class file of '"+depClass+"'");
+            }
+            digests.put(depClass, digest);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_KEY).append('=').append(FORMAT).append('\n');
+        sb.append(BACKEND_KEY).append('=').append(AccessBackends.defaultName()).append('\n');
+        // ConstantDynamic生成的是JDK11的class文件
+        sb.append(LAZY_HANDLES_KEY).append('=').append(LazyHandles.ENABLED).append('\n');
+        // 运行时成员的内联缓存字段数量
+        sb.append(CACHE_DEPTH_KEY).append('=').append(RuntimeMemberTable.CACHE_DEPTH).append('\n');
+        digests.forEach((name, digest) -> sb.append(CLASS_KEY_PREFIX).append(name).append('=').append(digest).append('\n'));
+        return sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 摘要中所有类的class文件都没有变化
+     *
+     * @param fingerprint  the fingerprint
+     * @param cl           the class loader of the target class
+     * @param defineLoader the class loader of the define
+     * @return the boolean
+     * @throws IOException the io exception
+     */
+    static boolean matches(byte[] fingerprint, ClassLoader cl, ClassLoader defineLoader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(fingerprint));
+        if (!FORMAT.equals(properties.getProperty(FORMAT_KEY))
+                || !AccessBackends.defaultName().equals(properties.getProperty(BACKEND_KEY))
+                || !String.valueOf(LazyHandles.ENABLED).equals(properties.getProperty(LAZY_HANDLES_KEY))
+                || !String.valueOf(RuntimeMemberTable.CACHE_DEPTH).equals(properties.getProperty(CACHE_DEPTH_KEY))) {
+            return false;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(CLASS_KEY_PREFIX)) continue;
+            String depClass = key.substring(CLASS_KEY_PREFIX.length());
+            if (!properties.getProperty(key).equals(digest(cl, defineLoader, depClass))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 生成实现类时读取过成员的类, 以及它们的父类
+     */
+    private static Set<String> dependencies(InterfaceImplClassDefine defineClass) {
+        Set<String> classes = new TreeSet<>();
+        addHierarchy(classes, defineClass.getDefine());
+        addHierarchy(classes, defineClass.getTargetClass());
+        for (MethodDefine methodDefine : defineClass.getMethodDefines()) {
+            addFieldRef(classes, methodDefine.fieldRef);
+            MethodRef methodRef = methodDefine.methodRef;
+            if (methodRef != null) {
+                addFieldRef(classes, methodRef.getOwner());
+                if (methodRef instanceof EarlyMethodRef) {
+                    addHierarchy(classes, ((EarlyMethodRef) methodRef).getMethod().getDeclaringClass());
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static void addFieldRef(Set<String> classes, FieldRef fieldRef) {
+        for (; fieldRef != null; fieldRef = fieldRef.getPrev()) {
+            if (fieldRef instanceof EarlyFieldRef) {
+                addHierarchy(classes, ((EarlyFieldRef) fieldRef).getClassType());
+            } else if (fieldRef instanceof ElementRef) {
+                addHierarchy(classes, ((ElementRef) fieldRef).getClassType());
+            }
+        }
+    }
+
+    private static void addHierarchy(Set<String> classes, Class<?> clazz) {
+        while (clazz != null && !clazz.isPrimitive()) {
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            if (clazz.isPrimitive() || clazz == Object.class) {
+                return;
+            }
+            classes.add(clazz.getName());
+            clazz = clazz.getSuperclass();
+        }
+    }
+
+    /**
+     * class文件的摘要
+     *
+     * @param cl           the class loader
+     * @param defineLoader the fallback class loader
+     * @param className    the class name
+     * @return the digest, or null if the class file is not found
+     * @throws IOException the io exception
+     */
+    static String digest(ClassLoader cl, ClassLoader defineLoader, String className) throws IOException {
+        String path = classPath(className);
+        byte[] bytes = read(cl, path);
+        if (bytes == null && defineLoader != null) {
+            bytes = read(defineLoader, path);
+        }
+        return bytes == null ? null : sha256(bytes);
+    }
+
+    /**
+     * Sha 256 string.
+     *
+     * @param chunks the chunks
+     * @return the string
+     */
+    static String sha256(byte[]... chunks) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (byte[] chunk : chunks) {
+                md.update(chunk);
+            }
+            byte[] digest = md.digest();
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read resource.
+     *
+     * @param cl   the class loader, null means the system class loader
+     * @param path the path
+     * @return the bytes, or null if the resource is not found
+     * @throws IOException the io exception
+     */
+    static byte[] read(ClassLoader cl, String path) throws IOException {
+        InputStream in = cl == null ? ClassLoader.getSystemResourceAsStream(path) : cl.getResourceAsStream(path);
+        if (in == null) {
+            return null;
+        }
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = input.read(buf)) != -1) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Class path string.
+     *
+     * @param className the class name
+     * @return the string
+     */
+    static String classPath(String className) {
+        return className.replace('.', '/')+".class";
+    }
+}
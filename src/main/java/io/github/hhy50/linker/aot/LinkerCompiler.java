@@ -0,0 +1,125 @@
+package io.github.hhy50.linker.aot;
+
+import io.github.hhy50.linker.annotations.Target;
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+import io.github.hhy50.linker.util.AnnotationUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 编译期生成实现类.
+ * <p>
+ * 扫描classes目录下所有声明了{@link Target.Bind}或者{@link io.github.hhy50.linker.annotations.Runtime}的接口,
+ * 使用运行时相同的流程生成实现类, 连同摘要一起写回classes目录. 需要在process-classes阶段以编译classpath运行:
+ * <pre>
+ * java -cp &lt;classpath&gt; io.github.hhy50.linker.aot.LinkerCompiler target/classes [outputDir]
+ * </pre>
+ */
+public class LinkerCompiler {
+
+    /**
+     * The entry point of application.
+     *
+     * @param args classesDir [outputDir]
+     * @throws Exception the exception
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: LinkerCompiler <classesDir> [outputDir]");
+            System.exit(1);
+        }
+        File classesDir = new File(args[0]);
+        File outputDir = args.length > 1 ? new File(args[1]) : classesDir;
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl == null) cl = LinkerCompiler.class.getClassLoader();
+
+        List<File> written = compile(classesDir, outputDir, cl);
+        System.out.println("[reflect-linker] precompiled "+written.size()+" linker classes into "+outputDir);
+    }
+
+    /**
+     * 生成classesDir下所有define接口的实现类.
+     *
+     * @param classesDir the classes dir
+     * @param outputDir  the output dir
+     * @param cl         the class loader which can load the classes dir and the targets
+     * @return the written class files
+     * @throws IOException the io exception
+     */
+    public static List<File> compile(File classesDir, File outputDir, ClassLoader cl) throws IOException {
+        List<File> written = new ArrayList<>();
+        for (String className : scan(classesDir)) {
+            Class<?> define;
+            try {
+                define = Class.forName(className, false, cl);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            File classFile = compile(define, outputDir, cl);
+            if (classFile != null) {
+                written.add(classFile);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 生成单个define接口的实现类.
+     *
+     * @param define    the define
+     * @param outputDir the output dir
+     * @param cl        the class loader
+     * @return the written class file, or null if the define is not a linker or its target is missing
+     * @throws IOException the io exception
+     */
+    public static File compile(Class<?> define, File outputDir, ClassLoader cl) throws IOException {
+        if (!define.isInterface()) {
+            return null;
+        }
+        Class<?> targetClass;
+        if (AnnotationUtils.isRuntime(define)) {
+            targetClass = Object.class;
+        } else {
+            String bind = AnnotationUtils.getBind(define);
+            if (bind == null) {
+                return null;
+            }
+            try {
+                targetClass = Class.forName(bind, false, cl);
+            } catch (ClassNotFoundException e) {
+                System.err.println("[reflect-linker] skip "+define.getName()+", target class not found: "+bind);
+                return null;
+            }
+        }
+
+        InterfaceImplClassDefine defineClass;
+        try {
+            defineClass = ClassDefineParse.generateBytecode(define, targetClass, cl);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("generate linker '"+define.getName()+"' failed", e);
+        }
+        return Precompiled.write(defineClass, cl, outputDir);
+    }
+
+    private static List<String> scan(File classesDir) throws IOException {
+        Path root = classesDir.toPath();
+        if (!Files.isDirectory(root)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(path -> path.toString().endsWith(".class"))
+                    .map(path -> root.relativize(path).toString())
+                    .map(path -> path.substring(0, path.length()-".class".length()).replace(File.separatorChar, '.'))
+                    .filter(name -> !name.endsWith("package-info") && !name.endsWith("module-info"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
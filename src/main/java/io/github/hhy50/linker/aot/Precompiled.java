@@ -0,0 +1,84 @@
+package io.github.hhy50.linker.aot;
+
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 编译期生成的实现类.
+ * <p>
+ * 实现类和生成时依赖的类的摘要一起打包, 摘要保存在META-INF/linker/实现类名.properties中.
+ * 运行时只读取资源比较摘要, 不会加载任何类, 摘要不一致时回退到运行时生成
+ */
+public class Precompiled {
+
+    /**
+     * 关闭时不查找预编译的实现类
+     */
+    private static final boolean ENABLED = !"false".equals(System.getProperty("linker.precompiled"));
+
+    private static final String FINGERPRINT_DIR = "META-INF/linker/";
+
+    /**
+     * 查找预编译的实现类.
+     *
+     * @param define      the define
+     * @param targetClass the target class
+     * @param className   the impl class name
+     * @param cl          the class loader of the target class
+     * @return the interface impl class define, or null if absent or stale
+     * @throws IOException the io exception
+     */
+    public static InterfaceImplClassDefine load(Class<?> define, Class<?> targetClass, String className, ClassLoader cl) throws IOException {
+        if (!ENABLED) {
+            return null;
+        }
+        ClassLoader defineLoader = define.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : define.getClassLoader();
+        byte[] fingerprint = Fingerprint.read(defineLoader, fingerprintPath(className));
+        if (fingerprint == null || !Fingerprint.matches(fingerprint, cl, defineLoader)) {
+            return null;
+        }
+
+        byte[] bytecode = Fingerprint.read(defineLoader, Fingerprint.classPath(className));
+        if (bytecode == null) {
+            return null;
+        }
+        InterfaceImplClassDefine defineClass = new InterfaceImplClassDefine(define, targetClass,
+                () -> ClassDefineParse.parseMethodDefines(define, targetClass, cl));
+        defineClass.setClassName(className);
+        return defineClass.setBytecode(bytecode);
+    }
+
+    /**
+     * 写出实现类和摘要.
+     *
+     * @param defineClass the generated define class
+     * @param cl          the class loader used for generation
+     * @param outputDir   the output dir
+     * @return the written class file
+     * @throws IOException the io exception
+     */
+    static File write(InterfaceImplClassDefine defineClass, ClassLoader cl, File outputDir) throws IOException {
+        byte[] fingerprint = Fingerprint.of(defineClass, cl);
+
+        File classFile = new File(outputDir, Fingerprint.classPath(defineClass.getClassName()));
+        File fingerprintFile = new File(outputDir, fingerprintPath(defineClass.getClassName()));
+        classFile.getParentFile().mkdirs();
+        fingerprintFile.getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(classFile)) {
+            out.write(defineClass.getBytecode());
+        }
+        try (OutputStream out = new FileOutputStream(fingerprintFile)) {
+            out.write(fingerprint);
+        }
+        return classFile;
+    }
+
+    private static String fingerprintPath(String className) {
+        return FINGERPRINT_DIR+className+".properties";
+    }
+}
@@ -91,6 +91,21 @@ public class AsmClassBuilder {
      * @param signature  the signature
      */
     public AsmClassBuilder(int asmFlags, int access, String className, String superName, String[] interfaces, String signature) {
+        this(Opcodes.V1_8, asmFlags, access, className, superName, interfaces, signature);
+    }
+
+    /**
+     * Instantiates a new Asm class builder.
+     *
+     * @param version    the class file version
+     * @param asmFlags   the asm flags
+     * @param access     the access
+     * @param className  the class name
+     * @param superName  the super name
+     * @param interfaces the interfaces
+     * @param signature  the signature
+     */
+    protected AsmClassBuilder(int version, int asmFlags, int access, String className, String superName, String[] interfaces, String signature) {
         this.flags = asmFlags;
         this.access = access;
         this.className = className;
@@ -98,7 +113,7 @@ public class AsmClassBuilder {
         this.superOwner = Optional.ofNullable(superName).map(ClassUtil::className2path).orElse("java/lang/Object");
         this.members = new java.util.HashMap<>();
         this.classWriter = new ClassWriter(asmFlags);
-        this.classWriter.visit(Opcodes.V1_8, access, this.classOwner, signature, this.superOwner,
+        this.classWriter.visit(version, access, this.classOwner, signature, this.superOwner,
                 Arrays.stream(interfaces == null ? new String[0] : interfaces).map(ClassUtil::className2path).toArray(String[]::new));
     }
 
@@ -1,20 +1,31 @@
 package io.github.hhy50.linker.define;
 
 
-import io.github.hhy50.linker.AccessTool;
 import io.github.hhy50.linker.define.cl.SysLinkerClassLoader;
-import io.github.hhy50.linker.exceptions.LinkerException;
-import io.github.hhy50.linker.syslinker.ClassLoaderLinker;
+import io.github.hhy50.linker.runtime.Runtime;
+import io.github.hhy50.linker.util.ClassUtil;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The type Bytecode class loader.
  */
-public class BytecodeClassLoader{
+public class BytecodeClassLoader {
 
-    private static final Map<ClassLoader, Map<String, Class<?>>> NAMESPACE = new HashMap<>();
+    /**
+     * ClassLoader弱引用, 卸载之后对应的命名空间会被清理
+     */
+    private static final ConcurrentMap<LoaderKey, Namespace> NAMESPACE = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<ClassLoader> UNLOADED = new ReferenceQueue<>();
 
     /**
      * Load class.
@@ -24,17 +35,219 @@ public class BytecodeClassLoader{
      * @param bytecode    the bytecode
      * @return the class
      */
-    public synchronized static Class<?> load(ClassLoader classLoader, String className, byte[] bytecode) {
-        Map<String, Class<?>> clNameSpace = NAMESPACE.computeIfAbsent(classLoader, cl -> new HashMap<>());
-        try {
-            if (classLoader instanceof SysLinkerClassLoader) {
-                return clNameSpace.computeIfAbsent(className, n -> ((SysLinkerClassLoader) classLoader).load(className, bytecode));
+    public static Class<?> load(ClassLoader classLoader, String className, byte[] bytecode) {
+        expungeUnloaded();
+        Namespace clNameSpace = NAMESPACE.get(new LoaderKey(classLoader, null));
+        if (clNameSpace == null) {
+            Namespace newNameSpace = new Namespace();
+            clNameSpace = NAMESPACE.putIfAbsent(new LoaderKey(classLoader, UNLOADED), newNameSpace);
+            if (clNameSpace == null) {
+                clNameSpace = newNameSpace;
+            }
+        }
+        return clNameSpace.load(classLoader, className, bytecode);
+    }
+
+    /**
+     * 加载实现类, 同一个实现类在同一个ClassLoader中只会定义一次.
+     * <p>
+     * JDK15+并且ClassLoader就是define接口的ClassLoader时使用{@code Lookup.defineHiddenClass}定义成隐藏类,
+     * 隐藏类不会被ClassLoader强引用, 可以单独卸载. 其他情况(JDK8, SysLinkerClassLoader)仍然定义到ClassLoader中
+     *
+     * @param defineClass the define class
+     * @param classLoader the class loader
+     * @return the impl class
+     */
+    public static Class<?> load(InterfaceImplClassDefine defineClass, ClassLoader classLoader) {
+        Class<?> implClass = defineClass.getImplClass(classLoader);
+        if (implClass != null) {
+            return implClass;
+        }
+        synchronized (defineClass) {
+            implClass = defineClass.getImplClass(classLoader);
+            if (implClass != null) {
+                return implClass;
+            }
+            Class<?> define = defineClass.getDefine();
+            Class<?> nestHost = defineClass.getNestHost();
+            boolean hidden = nestHost != null || HiddenClassHolder.DEFINE_HIDDEN_CLASS != null && define.getClassLoader() == classLoader;
+            if (nestHost != null) {
+                implClass = defineHiddenClass(nestHost, defineClass.getBytecode(), HiddenClassHolder.NESTMATE_OPTIONS);
+            } else if (hidden) {
+                implClass = defineHiddenClass(define, defineClass.getBytecode(), HiddenClassHolder.NO_OPTIONS);
             } else {
-                ClassLoaderLinker clLinker = AccessTool.createSysLinker(ClassLoaderLinker.class, classLoader);
-                return clNameSpace.computeIfAbsent(className, n -> clLinker.defineClass(className, bytecode, 0, bytecode.length));
+                implClass = load(classLoader, defineClass.getClassName(), defineClass.getBytecode());
+            }
+            defineClass.setImplClass(classLoader, implClass, hidden);
+            return implClass;
+        }
+    }
+
+    /**
+     * 返回实现类的nest host, 不能作为目标类的nestmate时返回null.
+     * <p>
+     * 需要通过-Dlinker.hidden.nestmate=true开启, 实现类定义在目标类的包和ClassLoader中, 可以直接访问目标类的private成员.
+     * 目标类的ClassLoader要能加载define接口和linker自身的类, 并且目标类不在具名模块中
+     *
+     * @param define      the define
+     * @param targetClass the target class
+     * @return the nest host
+     */
+    public static Class<?> nestHost(Class<?> define, Class<?> targetClass) {
+        if (!Boolean.getBoolean("linker.hidden.nestmate") || HiddenClassHolder.NESTMATE_OPTIONS == null
+                || targetClass == Object.class || targetClass.isArray() || targetClass.isPrimitive()) {
+            return null;
+        }
+        ClassLoader cl = targetClass.getClassLoader();
+        if (cl == null || isNamedModule(targetClass) || !ClassUtil.isVisible(BytecodeClassLoader.class, cl) || !ClassUtil.isVisible(define, cl)) {
+            return null;
+        }
+        if (!ClassUtil.isPublic(define) && !ClassUtil.isSamePackage(define, targetClass)) {
+            return null;
+        }
+        return targetClass;
+    }
+
+    private static boolean isNamedModule(Class<?> clazz) {
+        try {
+            Object module = Class.class.getMethod("getModule").invoke(clazz);
+            return (Boolean) module.getClass().getMethod("isNamed").invoke(module);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 在host所在的包中定义隐藏类, 不使用STRONG选项, 隐藏类的生命周期和ClassLoader无关
+     */
+    private static Class<?> defineHiddenClass(Class<?> host, byte[] bytecode, Object options) {
+        try {
+            MethodHandles.Lookup lookup = Runtime.lookup(host).in(host);
+            MethodHandles.Lookup hiddenLookup = (MethodHandles.Lookup) HiddenClassHolder.DEFINE_HIDDEN_CLASS.invokeExact(lookup, bytecode, false, options);
+            return hiddenLookup.lookupClass();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static void expungeUnloaded() {
+        Reference<? extends ClassLoader> ref;
+        while ((ref = UNLOADED.poll()) != null) {
+            NAMESPACE.remove(ref);
+        }
+    }
+
+    private static Class<?> defineClass(ClassLoader classLoader, String className, byte[] bytecode) {
+        if (classLoader instanceof SysLinkerClassLoader) {
+            return ((SysLinkerClassLoader) classLoader).load(className, bytecode);
+        }
+        try {
+            return (Class<?>) DefineClassHolder.DEFINE_CLASS.invokeExact(classLoader, className, bytecode, 0, bytecode.length);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * 单个ClassLoader下已经加载的类, 同名的类只会define一次.
+     * 这里不能持有ClassLoader的强引用(Class对象也会引用ClassLoader), 否则ClassLoader永远不会被回收
+     */
+    private static class Namespace {
+        private final ConcurrentMap<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+
+        Class<?> load(ClassLoader classLoader, String className, byte[] bytecode) {
+            WeakReference<Class<?>> ref = classes.get(className);
+            Class<?> clazz = ref == null ? null : ref.get();
+            if (clazz != null) {
+                return clazz;
+            }
+            return classes.compute(className, (name, old) -> {
+                if (old != null && old.get() != null) {
+                    return old;
+                }
+                return new WeakReference<>(defineClass(classLoader, name, bytecode));
+            }).get();
+        }
+    }
+
+    /**
+     * 按照ClassLoader的identity比较
+     */
+    private static class LoaderKey extends WeakReference<ClassLoader> {
+        private final int hash;
+
+        LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LoaderKey)) return false;
+            ClassLoader classLoader = get();
+            return classLoader != null && classLoader == ((LoaderKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Lookup.defineHiddenClass(byte[], boolean, ClassOption...), JDK15以下为null.
+     * 可以通过-Dlinker.hidden.class=false关闭
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static class HiddenClassHolder {
+        static final MethodHandle DEFINE_HIDDEN_CLASS;
+        static final Object NO_OPTIONS;
+        static final Object NESTMATE_OPTIONS;
+
+        static {
+            MethodHandle defineHiddenClass = null;
+            Object noOptions = null;
+            Object nestmateOptions = null;
+            if (!"false".equals(System.getProperty("linker.hidden.class"))) {
+                try {
+                    Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+                    noOptions = Array.newInstance(classOption, 0);
+                    nestmateOptions = Array.newInstance(classOption, 1);
+                    Array.set(nestmateOptions, 0, Enum.valueOf((Class) classOption, "NESTMATE"));
+                    defineHiddenClass = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class, "defineHiddenClass",
+                                    MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, noOptions.getClass()))
+                            .asFixedArity()
+                            .asType(MethodType.methodType(MethodHandles.Lookup.class, MethodHandles.Lookup.class, byte[].class, boolean.class, Object.class));
+                } catch (ReflectiveOperationException e) {
+                    // JDK8
+                    defineHiddenClass = null;
+                    nestmateOptions = null;
+                }
+            }
+            DEFINE_HIDDEN_CLASS = defineHiddenClass;
+            NO_OPTIONS = noOptions;
+            NESTMATE_OPTIONS = nestmateOptions;
+        }
+    }
+
+    /**
+     * ClassLoader.defineClass只需要查找一次, 所有的ClassLoader共用
+     */
+    private static class DefineClassHolder {
+        static final MethodHandle DEFINE_CLASS;
+
+        static {
+            try {
+                DEFINE_CLASS = Runtime.lookup(ClassLoader.class).findVirtual(ClassLoader.class, "defineClass",
+                        MethodType.methodType(Class.class, String.class, byte[].class, int.class, int.class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
             }
-        } catch (LinkerException e) {
-            throw new RuntimeException(e);
         }
     }
 }
@@ -1,8 +1,13 @@
 package io.github.hhy50.linker.define;
 
+import io.github.hhy50.linker.aot.BytecodeCache;
+import io.github.hhy50.linker.aot.Precompiled;
+import io.github.hhy50.linker.annotations.Backend;
 import io.github.hhy50.linker.annotations.Runtime;
 import io.github.hhy50.linker.annotations.Target;
+import io.github.hhy50.linker.define.field.AtomicMode;
 import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.field.ElementRef;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.field.RuntimeFieldRef;
 import io.github.hhy50.linker.define.method.ConstructorRef;
@@ -13,6 +18,10 @@ import io.github.hhy50.linker.exceptions.ClassTypeNotMatchException;
 import io.github.hhy50.linker.exceptions.ParseException;
 import io.github.hhy50.linker.exceptions.VerifyException;
 import io.github.hhy50.linker.generate.ClassImplGenerator;
+import io.github.hhy50.linker.generate.backend.AccessBackends;
+import io.github.hhy50.linker.generate.backend.DirectBackend;
+import io.github.hhy50.linker.token.ArrayIndexFieldToken;
+import io.github.hhy50.linker.token.MapKeyToken;
 import io.github.hhy50.linker.token.Token;
 import io.github.hhy50.linker.token.TokenParser;
 import io.github.hhy50.linker.token.Tokens;
@@ -24,6 +33,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static io.github.hhy50.linker.util.AnnotationUtils.isRuntime;
 import static io.github.hhy50.linker.util.ClassUtil.getTypeDefines;
@@ -33,7 +43,19 @@ import static io.github.hhy50.linker.util.ClassUtil.getTypeDefines;
  */
 public class ClassDefineParse {
 
-    private static final Map<String, Map<String, InterfaceImplClassDefine>> PARSED = new HashMap<>();
+    /**
+     * 解析结果保存在define和目标类中生命周期较短的一方上, 一起卸载.
+     * 目标类的ClassLoader是define的ClassLoader或者它的父级时(包括@Runtime的Object和JDK的类)保存在define上, 否则保存在目标类上,
+     * 缓存只会引用生命周期不短于自己的类, 不会因为缓存导致ClassLoader泄漏
+     *
+     * @see #ownedByDefine(Class, Class)
+     */
+    private static final ClassValue<ConcurrentMap<CacheKey, Future<InterfaceImplClassDefine>>> PARSED = new ClassValue<ConcurrentMap<CacheKey, Future<InterfaceImplClassDefine>>>() {
+        @Override
+        protected ConcurrentMap<CacheKey, Future<InterfaceImplClassDefine>> computeValue(Class<?> owner) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     private static final String FIRST_OBJ_NAME = "target";
     private static final TokenParser TOKEN_PARSER = new TokenParser();
 
@@ -68,34 +90,161 @@ public class ClassDefineParse {
      * @throws ClassNotFoundException the class not found exception
      */
     public static InterfaceImplClassDefine parseClass(Class<?> define, Class<?> targetClass) throws ParseException, IOException, ClassNotFoundException {
-        ClassLoader cl = targetClass.getClassLoader();
-        if (cl == null) cl = ClassLoader.getSystemClassLoader();
+        // 运行时实现类不依赖目标类, 使用define的ClassLoader, 预热和createLinker命中同一个缓存
         if (isRuntime(define)) {
-            targetClass = Object.class;
+            return parseEarlyClass(define, Object.class, define.getClassLoader());
         }
+        return parseEarlyClass(define, targetClass, targetClass.getClassLoader());
+    }
 
-        String dynKey = targetClass == Object.class ? "runtime" : targetClass.getName().replace('.', '_');
-        InterfaceImplClassDefine defineClass = getCache(define, dynKey);
-        if (defineClass != null) {
-            return defineClass;
+    /**
+     * 按照目标类解析, @Runtime接口也生成早绑定的实现类.
+     * <p>
+     * 实现类只适用于这个目标类的对象, 用于分层实现中替换运行时实现类
+     *
+     * @param define      the define
+     * @param targetClass the observed target class
+     * @return interface impl class define
+     * @throws ParseException         the parse exception
+     * @throws IOException            the io exception
+     * @throws ClassNotFoundException the class not found exception
+     */
+    public static InterfaceImplClassDefine parseEarlyClass(Class<?> define, Class<?> targetClass) throws ParseException, IOException, ClassNotFoundException {
+        return parseEarlyClass(define, targetClass, targetClass.getClassLoader());
+    }
+
+    private static InterfaceImplClassDefine parseEarlyClass(Class<?> define, Class<?> targetClass, ClassLoader cl) throws ParseException, IOException, ClassNotFoundException {
+        if (cl == null) cl = ClassLoader.getSystemClassLoader();
+
+        boolean ownedByDefine = ownedByDefine(define, targetClass);
+        ConcurrentMap<CacheKey, Future<InterfaceImplClassDefine>> parsed = PARSED.get(ownedByDefine ? define : targetClass);
+        CacheKey key = new CacheKey(ownedByDefine ? targetClass : define, cl);
+        Future<InterfaceImplClassDefine> future = parsed.get(key);
+        if (future == null) {
+            final Class<?> fTargetClass = targetClass;
+            final ClassLoader fCl = cl;
+            FutureTask<InterfaceImplClassDefine> task = new FutureTask<>(() -> generate(define, fTargetClass, fCl));
+            future = parsed.putIfAbsent(key, task);
+            if (future == null) {
+                future = task;
+                task.run();
+            }
+        }
+        return getResult(parsed, key, future);
+    }
+
+    /**
+     * 目标类的ClassLoader是否是define的ClassLoader或者它的父级, 是的时候目标类的生命周期不短于define,
+     * 和目标类相关的缓存应该保存在define上
+     *
+     * @param define      the define
+     * @param targetClass the target class
+     * @return the boolean
+     */
+    public static boolean ownedByDefine(Class<?> define, Class<?> targetClass) {
+        ClassLoader targetLoader = targetClass.getClassLoader();
+        if (targetLoader == null) {
+            return true;
+        }
+        for (ClassLoader cl = define.getClassLoader(); cl != null; cl = cl.getParent()) {
+            if (cl == targetLoader) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private static InterfaceImplClassDefine generate(Class<?> define, Class<?> targetClass, ClassLoader cl) throws ClassNotFoundException, IOException {
+        Class<?> nestHost = BytecodeClassLoader.nestHost(define, targetClass);
+        String className = implClassName(define, targetClass, nestHost);
+        // 预编译的实现类不是nestmate, 类名不同不会命中
+        InterfaceImplClassDefine precompiled = Precompiled.load(define, targetClass, className, cl);
+        if (precompiled != null) {
+            return precompiled;
+        }
+        InterfaceImplClassDefine cached = BytecodeCache.load(define, targetClass, className, cl);
+        if (cached != null) {
+            cached.setNestHost(nestHost);
+            return cached;
+        }
+        InterfaceImplClassDefine defineClass = generateBytecode(define, targetClass, cl, nestHost);
+        BytecodeCache.store(defineClass, cl);
+        return defineClass;
+    }
+
+    /**
+     * 解析并生成实现类的字节码, 不使用缓存和预编译的实现类
+     *
+     * @param define      the define
+     * @param targetClass the target class, Object.class if generate the runtime impl of @Runtime define
+     * @param cl          the class loader
+     * @return the interface impl class define
+     * @throws ClassNotFoundException the class not found exception
+     * @throws IOException            the io exception
+     */
+    public static InterfaceImplClassDefine generateBytecode(Class<?> define, Class<?> targetClass, ClassLoader cl) throws ClassNotFoundException, IOException {
+        return generateBytecode(define, targetClass, cl, null);
+    }
 
-        defineClass = doParseClass(define, targetClass, cl);
-        defineClass.setClassName(define.getName()+"$"+dynKey);
+    private static InterfaceImplClassDefine generateBytecode(Class<?> define, Class<?> targetClass, ClassLoader cl, Class<?> nestHost) throws ClassNotFoundException, IOException {
+        InterfaceImplClassDefine defineClass = doParseClass(define, targetClass, cl);
+        defineClass.setClassName(implClassName(define, targetClass, nestHost));
+        defineClass.setNestHost(nestHost);
 
         ClassImplGenerator.generateBytecode(defineClass);
-        putCache(define, dynKey, defineClass);
         return defineClass;
     }
 
-    private static InterfaceImplClassDefine getCache(Class<?> define, String dynKey) {
-        Map<String, InterfaceImplClassDefine> parsed = PARSED.computeIfAbsent(define.getName(), k -> new HashMap<>());
-        return parsed.get(dynKey);
+    /**
+     * nestmate实现类需要和nest host在同一个包中
+     */
+    private static String implClassName(Class<?> define, Class<?> targetClass, Class<?> nestHost) {
+        if (nestHost != null) {
+            return nestHost.getName()+"$"+define.getName().replace('.', '_');
+        }
+        String dynKey = targetClass == Object.class ? "runtime" : targetClass.getName().replace('.', '_');
+        return define.getName()+"$"+dynKey;
     }
 
-    private static void putCache(Class<?> define, String dynKey, InterfaceImplClassDefine classDefine) {
-        Map<String, InterfaceImplClassDefine> parsed = PARSED.computeIfAbsent(define.getName(), k -> new HashMap<>());
-        parsed.put(dynKey, classDefine);
+    private static InterfaceImplClassDefine getResult(ConcurrentMap<CacheKey, Future<InterfaceImplClassDefine>> parsed, CacheKey key,
+                                                      Future<InterfaceImplClassDefine> future) throws IOException, ClassNotFoundException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    // 等待其他线程生成完成, 结束后再恢复中断状态
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            // 失败的结果不缓存, 下次调用重新生成
+            parsed.remove(key, future);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof ClassNotFoundException) throw (ClassNotFoundException) cause;
+            throw new IllegalStateException(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 只解析接口的方法, 用于从缓存或者预编译加载的实现类
+     *
+     * @param define      the define
+     * @param targetClass the target class
+     * @param cl          the class loader of the target class
+     * @return the method defines
+     * @throws ClassNotFoundException the class not found exception
+     */
+    public static List<MethodDefine> parseMethodDefines(Class<?> define, Class<?> targetClass, ClassLoader cl) throws ClassNotFoundException {
+        return doParseClass(define, targetClass, cl).getMethodDefines();
     }
 
     /**
@@ -112,13 +261,24 @@ public class ClassDefineParse {
         Map<String, String> typeDefines = getTypeDefines(define);
         List<MethodDefine> methodDefines = new ArrayList<>();
 
+        if (isRuntime(define) && AnnotationUtils.isAccessor(define)) {
+            throw new VerifyException("class ["+define.getName()+"], @Target.Accessor cannot be used with @Runtime");
+        }
         FieldRef targetField = new EarlyFieldRef(null, null, FIRST_OBJ_NAME, targetClass);
-        if (isRuntime(define)) {
+        // @Runtime接口指定了目标类时是早绑定的实现
+        if (isRuntime(define) && targetClass == Object.class) {
             targetField = targetField.toRuntime();
         }
         for (Method method : define.getMethods()) {
             if (!Modifier.isAbstract(method.getModifiers())) continue;
-            methodDefines.add(parseMethod(targetField, cl, method, typeDefines));
+            MethodDefine methodDefine = parseMethod(targetField, cl, method, typeDefines);
+            methodDefine.setBackend(AccessBackends.of(define, method));
+            // 占位符后面的字段在调用方展开, 只能使用direct
+            if (method.isAnnotationPresent(Backend.class) && methodDefine.fieldRef instanceof EarlyFieldRef
+                    && ElementRef.hasPlaceholder(methodDefine.fieldRef) && !DirectBackend.NAME.equals(methodDefine.getBackend().name())) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], field after placeholder only supports @Backend(\""+DirectBackend.NAME+"\")");
+            }
+            methodDefines.add(methodDefine);
         }
         return new InterfaceImplClassDefine(define, targetClass, methodDefines);
     }
@@ -134,15 +294,19 @@ public class ClassDefineParse {
      * @throws ClassNotFoundException the class not found exception
      */
     public static MethodDefine parseMethod(FieldRef firstField, ClassLoader cl, Method method, Map<String, String> typedDefines) throws ClassNotFoundException {
-        verify(method);
+        MethodDefine methodDefine = new MethodDefine(method);
+        verify(methodDefine);
 
         String fieldExpr = null;
         io.github.hhy50.linker.annotations.Field.Getter getter = method.getDeclaredAnnotation(io.github.hhy50.linker.annotations.Field.Getter.class);
         io.github.hhy50.linker.annotations.Field.Setter setter = method.getDeclaredAnnotation(io.github.hhy50.linker.annotations.Field.Setter.class);
+        AtomicMode atomicMode = methodDefine.getAtomicMode();
         if (getter != null) {
             fieldExpr = Util.getOrElseDefault(getter.value(), method.getName());
         } else if (setter != null) {
             fieldExpr = Util.getOrElseDefault(setter.value(), method.getName());
+        } else if (atomicMode != null) {
+            fieldExpr = atomicMode.getFieldExpr(method);
         }
 
         // copy
@@ -155,15 +319,27 @@ public class ClassDefineParse {
         }
         firstField.setFullName(FIRST_OBJ_NAME);
 
-        MethodDefine methodDefine = new MethodDefine(method);
         if (fieldExpr != null) {
             Tokens tokens = TOKEN_PARSER.parse(fieldExpr);
+            // getter的参数都是占位符, setter的最后一个参数是要设置的值
+            Class<?>[] argTypes = methodDefine.getParameterTypes();
             methodDefine.fieldRef = parseFieldExpr(firstField, cl, tokens,
                     AnnotationUtils.getDesignateStaticFields(method, tokens.tail().value()),
-                    typedDefines);
+                    typedDefines, getter != null ? argTypes : setter != null ? Arrays.copyOf(argTypes, argTypes.length-1) : null);
+            if (atomicMode != null) {
+                verifyAtomic(methodDefine, atomicMode);
+            }
+            if (setter != null && methodDefine.fieldRef instanceof ElementRef
+                    && ((ElementRef) methodDefine.fieldRef).getKind() == ElementRef.Kind.LENGTH) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], the length of array is read-only");
+            }
+            // 有占位符的setter在调用方展开, 最后一级只能是元素
+            if (setter != null && !(methodDefine.fieldRef instanceof ElementRef) && ElementRef.hasPlaceholder(methodDefine.fieldRef)) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], setter with placeholder must end with an element, e.g. 'rows[$0]'");
+            }
         } else if (methodDefine.hasConstructor()) {
             Class<?> classType = ((EarlyFieldRef) firstField).getClassType();
-            String[] argsType = parseArgsType(method);
+            String[] argsType = parseArgsType(methodDefine);
             Constructor<?> constructor = ReflectUtil.matchConstructor(classType, argsType);
             if (constructor == null) {
                 throw new ParseException("Constructor not found in class '"+classType+"' with args "+Arrays.toString(argsType));
@@ -177,22 +353,23 @@ public class ClassDefineParse {
                 fieldExpr = methodName.substring(0, i);
                 methodName = methodName.substring(i+1);
             }
-            methodDefine.methodRef = parseMethodExpr(firstField, cl, methodName, method, TOKEN_PARSER.parse(fieldExpr), typedDefines);
+            methodDefine.methodRef = parseMethodExpr(firstField, cl, methodName, methodDefine, TOKEN_PARSER.parse(fieldExpr), typedDefines);
         }
         return methodDefine;
     }
 
-    private static MethodRef parseMethodExpr(FieldRef firstField, ClassLoader cl, String targetMethod, Method defineMethod,
+    private static MethodRef parseMethodExpr(FieldRef firstField, ClassLoader cl, String targetMethod, MethodDefine methodDefine,
                                              final Tokens fieldTokens, Map<String, String> typedDefines) throws ClassNotFoundException {
+        Method defineMethod = methodDefine.method;
         Map<String, Boolean> staticTokens = AnnotationUtils.getDesignateStaticFields(defineMethod, targetMethod);
-        FieldRef owner = parseFieldExpr(firstField, cl, fieldTokens, staticTokens, typedDefines);
-        String[] argsType = parseArgsType(defineMethod);
+        FieldRef owner = parseFieldExpr(firstField, cl, fieldTokens, staticTokens, typedDefines, null);
+        String[] argsType = parseArgsType(methodDefine);
         Class<?> returnClass = defineMethod.getReturnType();
         io.github.hhy50.linker.annotations.Method.InvokeSuper invokeSuperAnno = defineMethod.getAnnotation(io.github.hhy50.linker.annotations.Method.InvokeSuper.class);
         String superClass = invokeSuperAnno != null ? invokeSuperAnno.value() : null;
         MethodRef methodRef = null;
-        if (owner instanceof EarlyFieldRef) {
-            Class<?> ownerClass = ((EarlyFieldRef) owner).getClassType();
+        if (isEarly(owner)) {
+            Class<?> ownerClass = owner instanceof EarlyFieldRef ? ((EarlyFieldRef) owner).getClassType() : ((ElementRef) owner).getClassType();
             Method method = ReflectUtil.matchMethod(ownerClass, targetMethod, superClass, argsType);
             if (method == null && typedDefines.containsKey(owner.getFullName())) {
                 throw new ParseException("can not find method "+targetMethod+" in class "+ownerClass.getName());
@@ -211,8 +388,8 @@ public class ClassDefineParse {
         return methodRef;
     }
 
-    private static String[] parseArgsType(Method method) {
-        return Arrays.stream(method.getParameters())
+    private static String[] parseArgsType(MethodDefine methodDefine) {
+        return Arrays.stream(methodDefine.getParameters())
                 .map(item -> {
                     String typed = AnnotationUtils.getTyped(item);
                     if (StringUtil.isNotEmpty(typed)) {
@@ -229,15 +406,21 @@ public class ClassDefineParse {
 
 
     private static FieldRef parseFieldExpr(FieldRef firstField, ClassLoader cl, final Tokens tokens,
-                                           Map<String, Boolean> staticFields, Map<String, String> typedDefines) throws ClassNotFoundException {
+                                           Map<String, Boolean> staticFields, Map<String, String> typedDefines, Class<?>[] argTypes) throws ClassNotFoundException {
         boolean isRuntime = firstField instanceof RuntimeFieldRef;
         Class<?> currentType = isRuntime ? null : ((EarlyFieldRef) firstField).getClassType();
         FieldRef lastField = firstField;
         String fullField = null;
         for (Token token : tokens) {
-            Field earlyField = lastField instanceof EarlyFieldRef ? token.getField(currentType) : null;
-            currentType = earlyField == null ? null : earlyField.getType();
             fullField = Optional.ofNullable(fullField).map(i -> i+"."+token.value()).orElseGet(token::value);
+            if (isEarly(lastField) && currentType.isArray() && "length".equals(token.value()) && !token.arrayExpr()) {
+                lastField = ElementRef.ofLength(lastField, currentType);
+                lastField.setFullName(fullField);
+                currentType = int.class;
+                continue;
+            }
+            Field earlyField = isEarly(lastField) ? token.getField(currentType) : null;
+            currentType = earlyField == null ? null : earlyField.getType();
 
             Class<?> assignedType = getFieldTyped(typedDefines, cl, fullField, token.value());
             if (assignedType != null) {
@@ -247,35 +430,133 @@ public class ClassDefineParse {
                 currentType = assignedType;
             }
 
+            if (earlyField == null && ElementRef.hasPlaceholder(lastField)) {
+                throw new ParseException("field '"+fullField+"' after placeholder must be known at parse time, specify the type of element by @Typed");
+            }
             lastField = earlyField != null ? new EarlyFieldRef(lastField, earlyField, assignedType)
                     : new RuntimeFieldRef(lastField, lastField.fieldName, token.value());
             lastField.setFullName(fullField);
             designateStatic(staticFields, lastField);
+
+            if (token.arrayExpr() || token.mapExpr()) {
+                lastField = parseElement(lastField, token, currentType, cl, typedDefines, fullField, argTypes);
+                fullField = lastField.getFullName();
+                currentType = ((ElementRef) lastField).getClassType();
+            }
         }
         return lastField;
     }
 
-    private static void verify(Method method) {
+    /**
+     * items[0]和attrs['id']中的元素, ownerClass是运行时字段并且没有@Typed时为null
+     */
+    private static ElementRef parseElement(FieldRef owner, Token token, Class<?> ownerClass, ClassLoader cl,
+                                           Map<String, String> typedDefines, String fullField, Class<?>[] argTypes) throws ClassNotFoundException {
+        ElementRef elementRef;
+        // 声明成Object的字段和运行时字段一样处理
+        if (ownerClass == Object.class) {
+            ownerClass = null;
+        }
+        int argIndex = token.arrayExpr() ? ((ArrayIndexFieldToken) token).placeholder() : -1;
+        if (argIndex >= 0) {
+            return parsePlaceholder(owner, argIndex, ownerClass, cl, typedDefines, fullField, argTypes);
+        }
+        if (token.arrayExpr()) {
+            String index = ((ArrayIndexFieldToken) token).index;
+            if (ownerClass != null && !ElementRef.isIndexed(ownerClass)) {
+                throw new ParseException("field '"+fullField+"' is not an array or List, can not access by index");
+            }
+            if (!index.matches("\\d{1,9}")) {
+                throw new ParseException("illegal index '"+index+"' of field '"+fullField+"'");
+            }
+            fullField = fullField+"["+index+"]";
+            elementRef = ElementRef.ofIndex(owner, Integer.parseInt(index), ownerClass, getFieldTyped(typedDefines, cl, fullField, fullField));
+        } else {
+            String key = ((MapKeyToken) token).key;
+            if (ownerClass != null && !ElementRef.isMap(ownerClass)) {
+                throw new ParseException("field '"+fullField+"' is not a Map, can not access by key");
+            }
+            fullField = fullField+"['"+key+"']";
+            elementRef = ElementRef.ofKey(owner, key, ownerClass, getFieldTyped(typedDefines, cl, fullField, fullField));
+        }
+        elementRef.setFullName(fullField);
+        return elementRef;
+    }
+
+    /**
+     * rows[$0]中的元素, 参数是int时按照下标访问, 否则作为Map的key
+     */
+    private static ElementRef parsePlaceholder(FieldRef owner, int argIndex, Class<?> ownerClass, ClassLoader cl,
+                                               Map<String, String> typedDefines, String fullField, Class<?>[] argTypes) throws ClassNotFoundException {
+        if (argTypes == null) {
+            throw new ParseException("placeholder of field '"+fullField+"' can only be used in @Field.Getter|@Field.Setter");
+        }
+        if (argIndex >= argTypes.length) {
+            throw new ParseException("placeholder '$"+argIndex+"' of field '"+fullField+"' out of method parameters");
+        }
+        Class<?> argType = argTypes[argIndex];
+        boolean intArg = argType == int.class || argType == short.class || argType == byte.class || argType == char.class;
+        String elementField = fullField+"[$"+argIndex+"]";
+        Class<?> assignedType = getFieldTyped(typedDefines, cl, elementField, elementField);
+        ElementRef elementRef;
+        if (ownerClass == null ? !intArg : ElementRef.isMap(ownerClass)) {
+            elementRef = ElementRef.ofKeyArg(owner, argIndex, ownerClass, assignedType);
+        } else if (ownerClass != null && !ElementRef.isIndexed(ownerClass)) {
+            throw new ParseException("field '"+fullField+"' is not an array, List or Map, can not access by placeholder");
+        } else if (!intArg) {
+            throw new ParseException("placeholder '$"+argIndex+"' of field '"+fullField+"' is an index, the parameter must be int");
+        } else {
+            elementRef = ElementRef.ofIndexArg(owner, argIndex, ownerClass, assignedType);
+        }
+        elementRef.setFullName(elementField);
+        return elementRef;
+    }
+
+    private static boolean isEarly(FieldRef fieldRef) {
+        return fieldRef instanceof EarlyFieldRef
+                || fieldRef instanceof ElementRef && ((ElementRef) fieldRef).getClassType() != null;
+    }
+
+    private static void verify(MethodDefine methodDefine) {
+        Method method = methodDefine.method;
+        int paramCount = methodDefine.getParameters().length;
         io.github.hhy50.linker.annotations.Field.Getter getter = method.getDeclaredAnnotation(io.github.hhy50.linker.annotations.Field.Getter.class);
         io.github.hhy50.linker.annotations.Field.Setter setter = method.getDeclaredAnnotation(io.github.hhy50.linker.annotations.Field.Setter.class);
         io.github.hhy50.linker.annotations.Method.Constructor constructor = method.getDeclaredAnnotation(io.github.hhy50.linker.annotations.Method.Constructor.class);
+        AtomicMode atomicMode = methodDefine.getAtomicMode();
         // Field.Setter和@Field.Getter只能有一个
         if (getter != null && setter != null) {
             throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] cannot have two annotations @Field.getter and @Field.setter");
         }
+        if (atomicMode != null && (getter != null || setter != null)) {
+            throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], atomic annotations and @Field.Setter|@Field.Getter only one can exist");
+        }
         if (getter != null) {
             if (StringUtil.isEmpty(getter.value())) {
                 throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is getter method, must be specified field-expression");
             }
-            if (method.getReturnType() == void.class || method.getParameters().length > 0) {
-                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is getter method,its return value cannot be of type void, and the parameter length must be 0");
+            // 表达式中的$N占位符对应方法参数
+            int placeholders = placeholderCount(getter.value());
+            if (method.getReturnType() == void.class || paramCount != placeholders) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is getter method,its return value cannot be of type void, and the parameter length must be "+placeholders);
             }
         } else if (setter != null) {
             if (StringUtil.isEmpty(setter.value())) {
                 throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is getter method, must be specified field-expression");
             }
-            if (method.getReturnType() != void.class || method.getParameters().length != 1) {
-                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is setter method,its return value must be of type void, and the parameter length must be 1");
+            int placeholders = placeholderCount(setter.value());
+            if (method.getReturnType() != void.class || paramCount != placeholders+1) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is setter method,its return value must be of type void, and the parameter length must be "+(placeholders+1));
+            }
+        } else if (atomicMode != null) {
+            if (StringUtil.isEmpty(atomicMode.getFieldExpr(method))) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is atomic method, must be specified field-expression");
+            }
+            Class<?> rType = method.getReturnType();
+            boolean rTypeMatch = atomicMode == AtomicMode.COMPARE_AND_SET ? rType == boolean.class
+                    : atomicMode == AtomicMode.SET_RELEASE ? rType == void.class : rType != void.class;
+            if (!rTypeMatch || paramCount != atomicMode.getParamCount()) {
+                throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"] is "+atomicMode+" method, return type or parameter length not match");
             }
         } else if (constructor != null) {
             boolean runtime = method.getDeclaringClass().getDeclaredAnnotation(Runtime.class) != null;
@@ -286,13 +567,41 @@ public class ClassDefineParse {
             }
         }
 
+        if (methodDefine.hasReceiverParam() && (method.getParameterCount() == 0 || method.getParameterTypes()[0].isPrimitive())) {
+            throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], the first parameter of @Target.Accessor method must be the target object");
+        }
+
         io.github.hhy50.linker.annotations.Method.Name methodNameAnn = method.getAnnotation(io.github.hhy50.linker.annotations.Method.Name.class);
         // @Field 和 @Method相关的注解不能同时存在
-        if ((getter != null || setter != null) & (methodNameAnn != null)) {
+        if ((getter != null || setter != null || atomicMode != null) & (methodNameAnn != null)) {
             throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], @Method.Name and @Field.Setter|@Field.Getter only one can exist");
         }
     }
 
+    private static int placeholderCount(String fieldExpr) {
+        int count = 0;
+        for (Token token : TOKEN_PARSER.parse(fieldExpr)) {
+            if (token instanceof ArrayIndexFieldToken) {
+                count = Math.max(count, ((ArrayIndexFieldToken) token).placeholder()+1);
+            }
+        }
+        return count;
+    }
+
+    private static void verifyAtomic(MethodDefine methodDefine, AtomicMode atomicMode) {
+        Method method = methodDefine.method;
+        if (!(methodDefine.fieldRef instanceof EarlyFieldRef)) {
+            throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], atomic field must be resolved at parse time, use @Typed to specify the owner type");
+        }
+        Field field = ((EarlyFieldRef) methodDefine.fieldRef).getField();
+        if (!atomicMode.supports(field.getType())) {
+            throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], "+atomicMode+" is not supported for field type "+field.getType().getName());
+        }
+        if (atomicMode.isWrite() && Modifier.isFinal(field.getModifiers())) {
+            throw new VerifyException("method ["+method.getDeclaringClass()+"@"+method.getName()+"], "+atomicMode+" cannot be used with final field");
+        }
+    }
+
     private static Class<?> getFieldTyped(Map<String, String> typedDefines, ClassLoader cl, String fullField, String tokenValue) throws ClassNotFoundException {
         if (typedDefines.containsKey(fullField)) {
             return cl.loadClass(typedDefines.get(fullField));
@@ -312,4 +621,32 @@ public class ClassDefineParse {
             }
         }
     }
+
+    private static final class CacheKey {
+        /**
+         * 保存在define上时是目标类, 否则是define
+         */
+        private final Class<?> other;
+        private final ClassLoader cl;
+        private final int hash;
+
+        CacheKey(Class<?> other, ClassLoader cl) {
+            this.other = other;
+            this.cl = cl;
+            this.hash = Objects.hash(other, cl);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey that = (CacheKey) o;
+            return other == that.other && cl == that.cl;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
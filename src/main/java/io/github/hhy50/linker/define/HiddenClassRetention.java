@@ -0,0 +1,113 @@
+package io.github.hhy50.linker.define;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * 隐藏类的强引用, 按照metaspace预算保留最近使用的实现类.
+ * <p>
+ * 预算通过-Dlinker.hidden.metaspace.budget指定(支持k/m/g后缀, 默认64m), 单个类占用的metaspace按照class文件大小的4倍估算.
+ * 超出预算时按照CLOCK(second chance)淘汰最近没有使用的实现类, 淘汰之后只剩弱引用, 没有实例时可以被卸载.
+ * 记录都是无锁的, 使用时只设置访问标记; 队列只弱引用实现类的记录, define所在的ClassLoader卸载之后记录一起回收
+ */
+class HiddenClassRetention {
+
+    private static final long BUDGET = parseSize(System.getProperty("linker.hidden.metaspace.budget"), 64L << 20);
+    private static final int METASPACE_FACTOR = 4;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<InterfaceImplClassDefine.ImplClass, Class> RETAINED_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(InterfaceImplClassDefine.ImplClass.class, Class.class, "retained");
+
+    private static final ConcurrentLinkedQueue<Entry> RETAINED = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+    private static final AtomicLong USED = new AtomicLong();
+
+    /**
+     * 同时只有一个线程淘汰, 其他线程不等待
+     */
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
+    /**
+     * 强引用实现类, 超出预算时淘汰. 已经强引用时直接返回
+     *
+     * @param implClass the impl class reference
+     * @param clazz     the impl class
+     */
+    static void retain(InterfaceImplClassDefine.ImplClass implClass, Class<?> clazz) {
+        if (!RETAINED_UPDATER.compareAndSet(implClass, null, clazz)) {
+            return;
+        }
+        Entry entry = new Entry(implClass);
+        RETAINED.offer(entry);
+        SIZE.incrementAndGet();
+        if (USED.addAndGet(entry.cost) > BUDGET) {
+            evict();
+        }
+    }
+
+    /**
+     * 淘汰到预算的3/4, 最近使用过的实现类清除访问标记后重新入队, 最多扫描两轮
+     */
+    private static void evict() {
+        if (!EVICTING.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long target = BUDGET / 4 * 3;
+            int limit = SIZE.get() * 2;
+            Entry entry;
+            while (USED.get() > target && limit-- > 0 && (entry = RETAINED.poll()) != null) {
+                InterfaceImplClassDefine.ImplClass implClass = entry.get();
+                if (implClass != null && implClass.accessed) {
+                    implClass.accessed = false;
+                    RETAINED.offer(entry);
+                    continue;
+                }
+                if (implClass != null) {
+                    implClass.retained = null;
+                }
+                SIZE.decrementAndGet();
+                USED.addAndGet(-entry.cost);
+            }
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    private static long parseSize(String value, long defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        value = value.trim().toLowerCase();
+        long unit = 1;
+        char last = value.charAt(value.length()-1);
+        if (last == 'k') unit = 1L << 10;
+        if (last == 'm') unit = 1L << 20;
+        if (last == 'g') unit = 1L << 30;
+        if (unit != 1) {
+            value = value.substring(0, value.length()-1);
+        }
+        try {
+            return Long.parseLong(value.trim()) * unit;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 队列中的一项, 实现类的记录被回收之后在淘汰时扣除占用
+     */
+    private static class Entry extends WeakReference<InterfaceImplClassDefine.ImplClass> {
+        private final long cost;
+
+        Entry(InterfaceImplClassDefine.ImplClass implClass) {
+            super(implClass);
+            this.cost = (long) implClass.size * METASPACE_FACTOR;
+        }
+    }
+}
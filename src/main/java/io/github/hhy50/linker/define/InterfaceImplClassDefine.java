@@ -1,6 +1,8 @@
 package io.github.hhy50.linker.define;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 
 /**
@@ -9,9 +11,12 @@ import java.util.List;
 public class InterfaceImplClassDefine {
     private Class<?> define;
     private Class<?> targetClass;
-    private List<MethodDefine> methodDefines;
+    private volatile List<MethodDefine> methodDefines;
+    private Callable<List<MethodDefine>> methodDefinesLoader;
     private String className;
+    private Class<?> nestHost;
     private byte[] bytecode;
+    private volatile ImplClass implClass;
 
     /**
      * Instantiates a new Interface class define.
@@ -26,6 +31,19 @@ public class InterfaceImplClassDefine {
         this.methodDefines = methodDefines;
     }
 
+    /**
+     * 从缓存或者预编译加载的实现类不需要解析就可以定义, 方法在第一次使用时才解析
+     *
+     * @param define              the define
+     * @param targetClass         the target class
+     * @param methodDefinesLoader the method defines loader
+     */
+    public InterfaceImplClassDefine(Class<?> define, Class<?> targetClass, Callable<List<MethodDefine>> methodDefinesLoader) {
+        this.define = define;
+        this.targetClass = targetClass;
+        this.methodDefinesLoader = methodDefinesLoader;
+    }
+
     /**
      * Gets define.
      *
@@ -50,6 +68,17 @@ public class InterfaceImplClassDefine {
      * @return the method defines
      */
     public List<MethodDefine> getMethodDefines() {
+        List<MethodDefine> methodDefines = this.methodDefines;
+        if (methodDefines == null) {
+            try {
+                methodDefines = methodDefinesLoader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("parse methods of '"+define.getName()+"' failed", e);
+            }
+            this.methodDefines = methodDefines;
+        }
         return methodDefines;
     }
 
@@ -90,4 +119,95 @@ public class InterfaceImplClassDefine {
     public void setClassName(String className) {
         this.className = className;
     }
+
+    /**
+     * Gets impl class.
+     *
+     * @param cl the class loader that the impl class is defined in
+     * @return the impl class, or null if the impl class has not been loaded into this class loader or has been unloaded
+     */
+    /**
+     * 实现类作为nestmate时的nest host, 否则为null
+     *
+     * @return the nest host
+     */
+    public Class<?> getNestHost() {
+        return nestHost;
+    }
+
+    /**
+     * Sets nest host.
+     *
+     * @param nestHost the nest host
+     */
+    public void setNestHost(Class<?> nestHost) {
+        this.nestHost = nestHost;
+    }
+
+    public Class<?> getImplClass(ClassLoader cl) {
+        ImplClass implClass = this.implClass;
+        return implClass != null && implClass.classLoader == cl ? implClass.get() : null;
+    }
+
+    /**
+     * Sets impl class.
+     *
+     * @param cl        the class loader that the impl class is defined in
+     * @param implClass the impl class
+     * @param hidden    the impl class is a hidden class, only hold it weakly
+     */
+    public void setImplClass(ClassLoader cl, Class<?> implClass, boolean hidden) {
+        ImplClass holder = new ImplClass(cl, implClass, hidden, bytecode.length);
+        this.implClass = holder;
+        if (hidden) {
+            HiddenClassRetention.retain(holder, implClass);
+        }
+    }
+
+    /**
+     * 实现类的引用.
+     * <p>
+     * 普通的类被ClassLoader强引用, 这里直接强引用即可. 隐藏类只弱引用, 由{@link HiddenClassRetention}按照预算强引用最近使用的部分,
+     * 被淘汰并且没有实例之后可以被卸载, 再次使用时重新定义
+     */
+    static class ImplClass extends WeakReference<Class<?>> {
+        private final ClassLoader classLoader;
+        private final boolean hidden;
+        /**
+         * class文件的大小
+         */
+        final int size;
+        /**
+         * 强引用, 隐藏类被淘汰之后为null
+         */
+        volatile Class<?> retained;
+        /**
+         * 最近是否使用过, 淘汰时清除, 只在没有设置时写入
+         */
+        volatile boolean accessed;
+
+        ImplClass(ClassLoader classLoader, Class<?> implClass, boolean hidden, int size) {
+            super(implClass);
+            this.classLoader = classLoader;
+            this.hidden = hidden;
+            this.size = size;
+            // 隐藏类由HiddenClassRetention设置
+            this.retained = hidden ? null : implClass;
+        }
+
+        @Override
+        public Class<?> get() {
+            Class<?> clazz = super.get();
+            if (hidden && clazz != null) {
+                if (!accessed) {
+                    accessed = true;
+                }
+                if (retained == null) {
+                    // 被淘汰之后仍然在使用, 重新计入预算
+                    HiddenClassRetention.retain(this, clazz);
+                }
+            }
+            return clazz;
+        }
+    }
 }
@@ -2,10 +2,15 @@ package io.github.hhy50.linker.define;
 
 
 import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.define.field.AtomicMode;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.method.MethodRef;
+import io.github.hhy50.linker.generate.backend.AccessBackend;
+import io.github.hhy50.linker.util.AnnotationUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
 
 /**
  * The type Method define.
@@ -27,6 +32,16 @@ public class MethodDefine {
      */
     public MethodRef methodRef;
 
+    /**
+     * 第一个参数是目标对象, 见{@link io.github.hhy50.linker.annotations.Target.Accessor}
+     */
+    private final boolean receiverParam;
+
+    /**
+     * 已知成员的访问方式, 见{@link io.github.hhy50.linker.annotations.Backend}
+     */
+    private AccessBackend backend;
+
     /**
      * Instantiates a new Method define.
      *
@@ -34,6 +49,54 @@ public class MethodDefine {
      */
     public MethodDefine(Method method) {
         this.method = method;
+        this.receiverParam = AnnotationUtils.isAccessor(method.getDeclaringClass()) && !hasConstructor();
+    }
+
+    /**
+     * Has receiver param boolean.
+     *
+     * @return the boolean
+     */
+    public boolean hasReceiverParam() {
+        return receiverParam;
+    }
+
+    /**
+     * Gets backend.
+     *
+     * @return the backend
+     */
+    public AccessBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets backend.
+     *
+     * @param backend the backend
+     */
+    public void setBackend(AccessBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * 方法的参数, 不包含目标对象
+     *
+     * @return the parameters
+     */
+    public Parameter[] getParameters() {
+        Parameter[] parameters = method.getParameters();
+        return receiverParam ? Arrays.copyOfRange(parameters, 1, parameters.length) : parameters;
+    }
+
+    /**
+     * 方法的参数类型, 不包含目标对象
+     *
+     * @return the parameter types
+     */
+    public Class<?>[] getParameterTypes() {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return receiverParam ? Arrays.copyOfRange(parameterTypes, 1, parameterTypes.length) : parameterTypes;
     }
 
     /**
@@ -54,6 +117,15 @@ public class MethodDefine {
         return method.getDeclaredAnnotation(Field.Getter.class) != null;
     }
 
+    /**
+     * 原子访问方式, 见{@link AtomicMode}
+     *
+     * @return the atomic mode, null if not declared
+     */
+    public AtomicMode getAtomicMode() {
+        return AtomicMode.of(method);
+    }
+
     /**
      * Gets name.
      *
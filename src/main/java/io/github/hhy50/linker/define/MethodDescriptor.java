@@ -1,5 +1,6 @@
 package io.github.hhy50.linker.define;
 
+import io.github.hhy50.linker.LinkerCache;
 import io.github.hhy50.linker.LinkerFactory;
 import io.github.hhy50.linker.asm.AsmUtil;
 import io.github.hhy50.linker.define.provider.TargetProvider;
@@ -76,6 +77,16 @@ public class MethodDescriptor {
      */
     public static final MethodDescriptor LINKER_FACTORY_CREATE_LINKER = MethodDescriptor.of(LinkerFactory.class.getName(), "createLinker",
             Object.class, Class.class, Object.class);
+    /**
+     * The constant LINKER_CACHE_OF.
+     */
+    public static final MethodDescriptor LINKER_CACHE_OF = MethodDescriptor.of(LinkerCache.class.getName(), "of",
+            LinkerCache.class, Class.class);
+    /**
+     * The constant LINKER_CACHE_CREATE.
+     */
+    public static final MethodDescriptor LINKER_CACHE_CREATE = MethodDescriptor.of(LinkerCache.class.getName(), "create",
+            Object.class, Object.class);
     /**
      * The constant LINKER_FACTORY_CREATE_STATIC_LINKER.
      */
@@ -0,0 +1,148 @@
+package io.github.hhy50.linker.define.field;
+
+import io.github.hhy50.linker.annotations.Field;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 字段的原子访问方式, 名称和VarHandle.AccessMode一致.
+ */
+public enum AtomicMode {
+    /**
+     * {@link Field.CompareAndSet}
+     */
+    COMPARE_AND_SET("cas", 2, method -> Optional.ofNullable(method.getDeclaredAnnotation(Field.CompareAndSet.class)).map(Field.CompareAndSet::value)),
+    /**
+     * {@link Field.GetAndAdd}
+     */
+    GET_AND_ADD("getAndAdd", 1, method -> Optional.ofNullable(method.getDeclaredAnnotation(Field.GetAndAdd.class)).map(Field.GetAndAdd::value)),
+    /**
+     * {@link Field.GetVolatile}
+     */
+    GET_VOLATILE("getVolatile", 0, method -> Optional.ofNullable(method.getDeclaredAnnotation(Field.GetVolatile.class)).map(Field.GetVolatile::value)),
+    /**
+     * {@link Field.SetRelease}
+     */
+    SET_RELEASE("setRelease", 1, method -> Optional.ofNullable(method.getDeclaredAnnotation(Field.SetRelease.class)).map(Field.SetRelease::value));
+
+    private final String prefix;
+    private final int paramCount;
+    private final Function<Method, Optional<String>> fieldExpr;
+
+    AtomicMode(String prefix, int paramCount, Function<Method, Optional<String>> fieldExpr) {
+        this.prefix = prefix;
+        this.paramCount = paramCount;
+        this.fieldExpr = fieldExpr;
+    }
+
+    /**
+     * 方法上声明的原子访问方式
+     *
+     * @param method the method
+     * @return the atomic mode, null if not declared
+     */
+    public static AtomicMode of(Method method) {
+        for (AtomicMode mode : values()) {
+            if (mode.fieldExpr.apply(method).isPresent()) {
+                return mode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets field expr.
+     *
+     * @param method the method
+     * @return the field expr
+     */
+    public String getFieldExpr(Method method) {
+        return fieldExpr.apply(method).orElse(null);
+    }
+
+    /**
+     * 辅助方法名的前缀
+     *
+     * @return the prefix
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * 参数个数, 不包含目标对象
+     *
+     * @return the param count
+     */
+    public int getParamCount() {
+        return paramCount;
+    }
+
+    /**
+     * 是否修改字段
+     *
+     * @return the boolean
+     */
+    public boolean isWrite() {
+        return this != GET_VOLATILE;
+    }
+
+    /**
+     * 字段类型是否支持, JDK8的Unsafe只有int, long和引用类型的CAS和getAndAdd
+     *
+     * @param fieldType the field type
+     * @return the boolean
+     */
+    public boolean supports(Class<?> fieldType) {
+        switch (this) {
+            case COMPARE_AND_SET:
+                return fieldType == int.class || fieldType == long.class || !fieldType.isPrimitive();
+            case GET_AND_ADD:
+                return fieldType == int.class || fieldType == long.class;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 生成的辅助方法的类型
+     *
+     * @param valueType the value type
+     * @return the type
+     */
+    public Type methodType(Type valueType) {
+        switch (this) {
+            case COMPARE_AND_SET:
+                return Type.getMethodType(Type.BOOLEAN_TYPE, valueType, valueType);
+            case GET_AND_ADD:
+                return Type.getMethodType(valueType, valueType);
+            case GET_VOLATILE:
+                return Type.getMethodType(valueType);
+            default:
+                return Type.getMethodType(Type.VOID_TYPE, valueType);
+        }
+    }
+
+    /**
+     * 运行时MethodHandle的类型, 和{@link #methodType(Type)}一致
+     *
+     * @param valueType the value type
+     * @return the method type
+     */
+    public MethodType methodType(Class<?> valueType) {
+        switch (this) {
+            case COMPARE_AND_SET:
+                return MethodType.methodType(boolean.class, valueType, valueType);
+            case GET_AND_ADD:
+                return MethodType.methodType(valueType, valueType);
+            case GET_VOLATILE:
+                return MethodType.methodType(valueType);
+            default:
+                return MethodType.methodType(void.class, valueType);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.lang.reflect.Modifier;
  */
 public class EarlyFieldRef extends FieldRef {
 
+    private Field field;
     private Class<?> declaredType;
     private java.lang.reflect.Type genericType;
     private final Type fieldType;
@@ -27,6 +28,7 @@ public class EarlyFieldRef extends FieldRef {
      */
     public EarlyFieldRef(FieldRef prev, Field field, Class<?> assignedType) {
         super(prev, prev.getUniqueName(), field.getName());
+        this.field = field;
         this.declaredType = field.getDeclaringClass();
         this.genericType = field.getGenericType();
         this.fieldRealTypeClass = assignedType == null ? field.getType() : assignedType;
@@ -71,6 +73,15 @@ public class EarlyFieldRef extends FieldRef {
         return Type.getType(this.declaredType);
     }
 
+    /**
+     * Gets field.
+     *
+     * @return the field, null if the field is the target
+     */
+    public Field getField() {
+        return this.field;
+    }
+
     /**
      * Gets class type.
      *
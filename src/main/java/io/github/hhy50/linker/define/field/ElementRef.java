@@ -0,0 +1,249 @@
+package io.github.hhy50.linker.define.field;
+
+import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.util.ClassUtil;
+import org.objectweb.asm.Type;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 数组或List的元素(items[0])、Map的value(attrs['id'])以及数组的长度(items.length).
+ * <p>
+ * 上一级字段的类型在解析时已知, 生成xALOAD/List.get/Map.get/ARRAYLENGTH, 否则通过{@link io.github.hhy50.linker.runtime.RuntimeExtension}访问.
+ * 下标或key也可以是方法参数的占位符(rows[$0]), 调用时从参数中读取
+ */
+public class ElementRef extends FieldRef {
+
+    /**
+     * The enum Kind.
+     */
+    public enum Kind {
+        /**
+         * 数组或者List的元素
+         */
+        INDEX,
+        /**
+         * Map的value
+         */
+        KEY,
+        /**
+         * 数组的长度
+         */
+        LENGTH
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final String key;
+    private final int argIndex;
+    private final Class<?> ownerClass;
+    private final Class<?> elementClass;
+
+    /**
+     * 通过@Typed指定的元素类型
+     */
+    private final Class<?> assignedType;
+
+    private ElementRef(FieldRef prev, Kind kind, String name, int index, String key, int argIndex, Class<?> ownerClass,
+                       Class<?> elementClass, Class<?> assignedType) {
+        super(prev, prev.getUniqueName(), name);
+        this.kind = kind;
+        this.index = index;
+        this.key = key;
+        this.argIndex = argIndex;
+        this.ownerClass = ownerClass;
+        this.elementClass = elementClass;
+        this.assignedType = assignedType;
+    }
+
+    /**
+     * 数组或者List的元素
+     *
+     * @param prev         the prev
+     * @param index        the index
+     * @param ownerClass   上一级字段的类型, 运行时字段是null
+     * @param assignedType the assigned type
+     * @return the element ref
+     */
+    public static ElementRef ofIndex(FieldRef prev, int index, Class<?> ownerClass, Class<?> assignedType) {
+        return new ElementRef(prev, Kind.INDEX, "$"+index, index, null, -1, ownerClass, elementClass(ownerClass, assignedType), assignedType);
+    }
+
+    /**
+     * 下标是方法参数的数组或者List的元素(rows[$0])
+     *
+     * @param prev         the prev
+     * @param argIndex     占位符对应的参数位置
+     * @param ownerClass   上一级字段的类型, 运行时字段是null
+     * @param assignedType the assigned type
+     * @return the element ref
+     */
+    public static ElementRef ofIndexArg(FieldRef prev, int argIndex, Class<?> ownerClass, Class<?> assignedType) {
+        return new ElementRef(prev, Kind.INDEX, "$i"+argIndex, -1, null, argIndex, ownerClass, elementClass(ownerClass, assignedType), assignedType);
+    }
+
+    /**
+     * Map的value
+     *
+     * @param prev         the prev
+     * @param key          the key
+     * @param ownerClass   上一级字段的类型, 运行时字段是null
+     * @param assignedType the assigned type
+     * @return the element ref
+     */
+    public static ElementRef ofKey(FieldRef prev, String key, Class<?> ownerClass, Class<?> assignedType) {
+        return new ElementRef(prev, Kind.KEY, "$k"+key, -1, key, -1, ownerClass, assignedType, assignedType);
+    }
+
+    /**
+     * key是方法参数的Map的value(cache[$0])
+     *
+     * @param prev         the prev
+     * @param argIndex     占位符对应的参数位置
+     * @param ownerClass   上一级字段的类型, 运行时字段是null
+     * @param assignedType the assigned type
+     * @return the element ref
+     */
+    public static ElementRef ofKeyArg(FieldRef prev, int argIndex, Class<?> ownerClass, Class<?> assignedType) {
+        return new ElementRef(prev, Kind.KEY, "$m"+argIndex, -1, null, argIndex, ownerClass, assignedType, assignedType);
+    }
+
+    /**
+     * 数组的长度
+     *
+     * @param prev       the prev
+     * @param ownerClass 上一级字段的类型, 运行时字段是null
+     * @return the element ref
+     */
+    public static ElementRef ofLength(FieldRef prev, Class<?> ownerClass) {
+        return new ElementRef(prev, Kind.LENGTH, "length", -1, null, -1, ownerClass, int.class, null);
+    }
+
+    private static Class<?> elementClass(Class<?> ownerClass, Class<?> assignedType) {
+        if (assignedType == null && ownerClass != null && ownerClass.isArray()) {
+            return ownerClass.getComponentType();
+        }
+        return assignedType;
+    }
+
+    /**
+     * 表达式中是否有方法参数的占位符, 有占位符的字段只能在调用方的方法体中展开
+     *
+     * @param fieldRef the field ref
+     * @return the boolean
+     */
+    public static boolean hasPlaceholder(FieldRef fieldRef) {
+        for (FieldRef ref = fieldRef; ref != null; ref = ref.getPrev()) {
+            if (ref instanceof ElementRef && ((ElementRef) ref).isPlaceholder()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 上一级字段的类型是否支持下标访问
+     *
+     * @param ownerClass the owner class
+     * @return the boolean
+     */
+    public static boolean isIndexed(Class<?> ownerClass) {
+        return ownerClass.isArray() || List.class.isAssignableFrom(ownerClass);
+    }
+
+    /**
+     * 上一级字段的类型是否是Map
+     *
+     * @param ownerClass the owner class
+     * @return the boolean
+     */
+    public static boolean isMap(Class<?> ownerClass) {
+        return Map.class.isAssignableFrom(ownerClass);
+    }
+
+    /**
+     * Gets kind.
+     *
+     * @return the kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets index.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 下标或key是否是方法参数的占位符
+     *
+     * @return the boolean
+     */
+    public boolean isPlaceholder() {
+        return argIndex >= 0;
+    }
+
+    /**
+     * Gets arg index.
+     *
+     * @return 占位符对应的参数位置, 不是占位符时为-1
+     */
+    public int getArgIndex() {
+        return argIndex;
+    }
+
+    /**
+     * Gets key.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 上一级字段的类型
+     *
+     * @return the owner class, null if the owner is runtime field
+     */
+    public Class<?> getOwnerClass() {
+        return ownerClass;
+    }
+
+    /**
+     * 元素的类型
+     *
+     * @return the class type, null if unknown
+     */
+    public Class<?> getClassType() {
+        return elementClass;
+    }
+
+    /**
+     * 同一个表达式在不同方法上可以通过@Typed指定不同的类型, 生成的getter按照类型区分
+     */
+    @Override
+    public String getUniqueName() {
+        String uniqueName = super.getUniqueName();
+        return assignedType == null ? uniqueName : uniqueName+"_$_"+assignedType.getName().replaceAll("[^\\w$]", "_");
+    }
+
+    @Override
+    public Type getType() {
+        return elementClass == null ? ObjectVar.TYPE : Type.getType(elementClass);
+    }
+
+    @Override
+    public boolean isInvisible() {
+        if (elementClass != null && (elementClass.isPrimitive() || ClassUtil.isPublic(elementClass))) {
+            return false;
+        }
+        return super.isInvisible();
+    }
+}
@@ -28,6 +28,10 @@ public abstract class DefaultTargetProviderImpl implements TargetProvider {
     @Override
     public boolean equals(Object obj) {
         if (obj == null) return false;
+        if (target == null) {
+            // 访问器不绑定目标对象
+            return this == obj;
+        }
         if (obj instanceof DefaultTargetProviderImpl) {
             return Objects.equals(target, ((DefaultTargetProviderImpl) obj).target);
         }
@@ -36,11 +40,11 @@ public abstract class DefaultTargetProviderImpl implements TargetProvider {
 
     @Override
     public String toString() {
-        return target.toString();
+        return target == null ? super.toString() : target.toString();
     }
 
     @Override
     public int hashCode() {
-        return target.hashCode();
+        return target == null ? super.hashCode() : target.hashCode();
     }
 }
@@ -1,8 +1,6 @@
 package io.github.hhy50.linker.generate;
 
 import io.github.hhy50.linker.asm.AsmUtil;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
-import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
 import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import io.github.hhy50.linker.generate.type.AutoBox;
@@ -36,20 +34,28 @@ public abstract class AbstractDecorator extends MethodHandle {
      */
     protected void typecastArgs(MethodBody methodBody, VarInst[] args, Class<?>[] parameterTypes, Type[] expectTypes) {
         // 校验入参类型
-        VarInst[] realArgs = methodBody.getArgs();
         for (int i = 0; i < args.length; i++) {
-            VarInst arg = args[i];
-            Type expectType = expectTypes[i];
-
-            String bindClass = AnnotationUtils.getBind(parameterTypes[i]);
-            if (StringUtil.isNotEmpty(bindClass)) {
-                Type type = AsmUtil.getType(bindClass);
-                arg = methodBody.newLocalVar(type, arg.getTarget(type));
-            }
+            typecastArg(methodBody, i, parameterTypes[i], expectTypes[i]);
+        }
+    }
 
-            VarInst newArg = typeCast(methodBody, arg, expectType);
-            realArgs[i] = newArg;
+    /**
+     * Typecast arg.
+     *
+     * @param methodBody    the method body
+     * @param index         the index of arg
+     * @param parameterType the parameter type
+     * @param expectType    the expect type
+     */
+    protected void typecastArg(MethodBody methodBody, int index, Class<?> parameterType, Type expectType) {
+        VarInst[] realArgs = methodBody.getArgs();
+        VarInst arg = realArgs[index];
+        String bindClass = AnnotationUtils.getBind(parameterType);
+        if (StringUtil.isNotEmpty(bindClass)) {
+            Type type = AsmUtil.getType(bindClass);
+            arg = methodBody.newLocalVar(type, arg.getTarget(type));
         }
+        realArgs[index] = typeCast(methodBody, arg, expectType);
     }
 
     /**
@@ -108,9 +114,4 @@ public abstract class AbstractDecorator extends MethodHandle {
         }
         return varInst;
     }
-
-    @Override
-    protected void mhReassign(MethodBody methodBody, ClassTypeMember classType, MethodHandleMember mhMember, VarInst objVar) {
-        throw new RuntimeException("Decorator not impl mhReassign() method");
-    }
 }
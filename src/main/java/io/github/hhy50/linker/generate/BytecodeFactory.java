@@ -1,9 +1,13 @@
 package io.github.hhy50.linker.generate;
 
 import io.github.hhy50.linker.define.MethodDefine;
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.method.ConstructorRef;
 import io.github.hhy50.linker.define.method.MethodRef;
+import io.github.hhy50.linker.generate.atomic.AtomicDecorator;
+import io.github.hhy50.linker.generate.backend.AccessBackend;
+import io.github.hhy50.linker.generate.atomic.EarlyFieldAtomic;
 import io.github.hhy50.linker.generate.constructor.Constructor;
 import io.github.hhy50.linker.generate.getter.Getter;
 import io.github.hhy50.linker.generate.getter.GetterDecorator;
@@ -31,7 +35,7 @@ public class BytecodeFactory {
             classBuilder.defineGetter(prev.getUniqueName(), prev);
             prev = prev.getPrev();
         }
-        Getter<?> getter = classBuilder.defineGetter(fieldRef.getUniqueName(), fieldRef);
+        Getter<?> getter = classBuilder.defineGetter(fieldRef.getUniqueName(), fieldRef, backend(classBuilder, methodDefine));
         return new GetterDecorator(getter, fieldRef, methodDefine.method);
     }
 
@@ -50,10 +54,27 @@ public class BytecodeFactory {
             prev = prev.getPrev();
         }
 
-        Setter<?> setter = classBuilder.defineSetter(fieldRef.getUniqueName(), fieldRef);
+        Setter<?> setter = classBuilder.defineSetter(fieldRef.getUniqueName(), fieldRef, backend(classBuilder, methodDefine));
         return new SetterDecorator(setter, fieldRef, methodDefine);
     }
 
+    /**
+     * Generate atomic method handle.
+     *
+     * @param classBuilder the class builder
+     * @param methodDefine the method define
+     * @param fieldRef     the field ref
+     * @return the method handle
+     */
+    public static MethodHandle generateAtomic(InvokeClassImplBuilder classBuilder, MethodDefine methodDefine, EarlyFieldRef fieldRef) {
+        FieldRef prev = fieldRef.getPrev();
+        while (prev != null) {
+            classBuilder.defineGetter(prev.getUniqueName(), prev);
+            prev = prev.getPrev();
+        }
+        return new AtomicDecorator(new EarlyFieldAtomic(classBuilder.getClassName(), fieldRef, methodDefine.getAtomicMode()), methodDefine);
+    }
+
     /**
      * Generate invoker method handle.
      *
@@ -71,7 +92,7 @@ public class BytecodeFactory {
             classBuilder.defineGetter(prev.getUniqueName(), prev);
             prev = prev.getPrev();
         }
-        return new InvokerDecorator(classBuilder.defineInvoker(methodRef), methodDefine);
+        return new InvokerDecorator(classBuilder.defineInvoker(methodRef, backend(classBuilder, methodDefine)), methodDefine);
     }
 
     /**
@@ -86,4 +107,11 @@ public class BytecodeFactory {
         return new InvokerDecorator(
                 new Constructor(classBuilder.getClassName(), constructorRef), methodDefine);
     }
+
+    /**
+     * 表达式最后一个成员使用方法上声明的backend
+     */
+    private static AccessBackend backend(InvokeClassImplBuilder classBuilder, MethodDefine methodDefine) {
+        return methodDefine.getBackend() != null ? methodDefine.getBackend() : classBuilder.getBackend();
+    }
 }
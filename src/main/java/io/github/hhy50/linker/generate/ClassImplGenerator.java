@@ -3,6 +3,7 @@ package io.github.hhy50.linker.generate;
 import io.github.hhy50.linker.asm.AsmUtil;
 import io.github.hhy50.linker.define.InterfaceImplClassDefine;
 import io.github.hhy50.linker.define.MethodDefine;
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
 import io.github.hhy50.linker.define.method.ConstructorRef;
 import io.github.hhy50.linker.define.provider.DefaultTargetProviderImpl;
 import io.github.hhy50.linker.util.ClassUtil;
@@ -34,7 +35,8 @@ public class ClassImplGenerator {
         InvokeClassImplBuilder classBuilder = InvokeClassImplBuilder
                 .builder(Opcodes.ACC_PUBLIC | Opcodes.ACC_OPEN, implClassName, DefaultTargetProviderImpl.class.getName(), new String[]{define.getName()}, "")
                 .setTarget(targetClass)
-                .setDefineClass(define);
+                .setDefineClass(define)
+                .setNestHost(defineClass.getNestHost());
 
         for (MethodDefine methodDefine : defineClass.getMethodDefines()) {
             Method method = methodDefine.method;
@@ -50,11 +52,16 @@ public class ClassImplGenerator {
     }
 
     private static void generateMethodImpl(InvokeClassImplBuilder classBuilder, MethodBody body, MethodDefine methodDefine) {
+        if (methodDefine.hasReceiverParam()) {
+            body.shiftReceiverArg();
+        }
         MethodHandle mh = null;
         if (methodDefine.hasGetter()) {
             mh = BytecodeFactory.generateGetter(classBuilder, methodDefine, methodDefine.fieldRef);
         } else if (methodDefine.hasSetter()) {
             mh = BytecodeFactory.generateSetter(classBuilder, methodDefine, methodDefine.fieldRef);
+        } else if (methodDefine.getAtomicMode() != null) {
+            mh = BytecodeFactory.generateAtomic(classBuilder, methodDefine, (EarlyFieldRef) methodDefine.fieldRef);
         } else if (methodDefine.hasConstructor()) {
             mh = BytecodeFactory.generateConstructor(classBuilder, methodDefine, (ConstructorRef) methodDefine.methodRef);
         } else if (methodDefine.methodRef != null) {
@@ -1,27 +1,44 @@
 package io.github.hhy50.linker.generate;
 
 import io.github.hhy50.linker.asm.AsmClassBuilder;
+import io.github.hhy50.linker.asm.MethodBuilder;
+import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.field.ElementRef;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.field.RuntimeFieldRef;
 import io.github.hhy50.linker.define.method.EarlyMethodRef;
 import io.github.hhy50.linker.define.method.MethodRef;
 import io.github.hhy50.linker.define.method.RuntimeMethodRef;
+import io.github.hhy50.linker.generate.backend.AccessBackend;
+import io.github.hhy50.linker.generate.backend.AccessBackends;
+import io.github.hhy50.linker.generate.backend.DirectBackend;
 import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
+import io.github.hhy50.linker.generate.bytecode.ConstantMethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.InlineCacheMember;
+import io.github.hhy50.linker.generate.bytecode.InvokeDynamicMember;
 import io.github.hhy50.linker.generate.bytecode.Member;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.action.Action;
 import io.github.hhy50.linker.generate.bytecode.utils.Methods;
-import io.github.hhy50.linker.generate.getter.EarlyFieldGetter;
+import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.generate.getter.ElementGetter;
 import io.github.hhy50.linker.generate.getter.Getter;
 import io.github.hhy50.linker.generate.getter.RuntimeFieldGetter;
 import io.github.hhy50.linker.generate.getter.TargetFieldGetter;
-import io.github.hhy50.linker.generate.invoker.EarlyMethodInvoker;
 import io.github.hhy50.linker.generate.invoker.Invoker;
 import io.github.hhy50.linker.generate.invoker.RuntimeMethodInvoker;
-import io.github.hhy50.linker.generate.setter.EarlyFieldSetter;
+import io.github.hhy50.linker.generate.setter.ElementSetter;
 import io.github.hhy50.linker.generate.setter.RuntimeFieldSetter;
 import io.github.hhy50.linker.generate.setter.Setter;
+import io.github.hhy50.linker.runtime.InlineCacheEntry;
+import io.github.hhy50.linker.runtime.LazyHandles;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
+import io.github.hhy50.linker.util.AnnotationUtils;
+import io.github.hhy50.linker.util.ClassUtil;
 import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.ConstantDynamic;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
@@ -35,6 +52,10 @@ import static io.github.hhy50.linker.util.TypeUtils.METHOD_HANDLER_TYPE;
  */
 public class InvokeClassImplBuilder extends AsmClassBuilder {
     private Class<?> defineClass;
+    private boolean invokeDynamic;
+    private boolean accessor;
+    private Class<?> nestHost;
+    private AccessBackend backend;
     private final Map<String, Getter<?>> getters;
 
     /**
@@ -47,7 +68,8 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
      * @param signature  the signature
      */
     public InvokeClassImplBuilder(int access, String className, String superName, String[] interfaces, String signature) {
-        super(access, className, superName, interfaces, signature);
+        // ConstantDynamic需要JDK11的class文件版本
+        super(LazyHandles.ENABLED ? Opcodes.V11 : Opcodes.V1_8, AUTO_COMPUTE, access, className, superName, interfaces, signature);
         this.getters = new HashMap<>();
 
         this.defineConstruct(Opcodes.ACC_PUBLIC, Object.class)
@@ -76,6 +98,9 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
      */
     public InvokeClassImplBuilder setDefineClass(Class<?> defineClass) {
         this.defineClass = defineClass;
+        this.invokeDynamic = AnnotationUtils.isInvokeDynamic(defineClass);
+        this.accessor = AnnotationUtils.isAccessor(defineClass);
+        this.backend = AccessBackends.of(defineClass);
         return this;
     }
 
@@ -88,6 +113,45 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
         return defineClass;
     }
 
+    /**
+     * Sets nest host.
+     *
+     * @param nestHost the nest host, null if the impl class is not a nestmate
+     * @return the nest host
+     */
+    public InvokeClassImplBuilder setNestHost(Class<?> nestHost) {
+        this.nestHost = nestHost;
+        return this;
+    }
+
+    /**
+     * 成员是否可以在实现类中直接访问, 判断的ClassLoader是define类的ClassLoader.
+     * 实现类是nestmate时按照nest host判断, private成员也可以直接访问
+     *
+     * @param member the member
+     * @return the boolean
+     * @see ClassUtil#isAccessible(java.lang.reflect.Member, ClassLoader)
+     * @see ClassUtil#isAccessible(java.lang.reflect.Member, Class)
+     */
+    public boolean isAccessible(java.lang.reflect.Member member) {
+        return nestHost != null ? ClassUtil.isAccessible(member, nestHost) : ClassUtil.isAccessible(member, getClassLoader());
+    }
+
+    /**
+     * 类型是否可以在实现类中直接使用(CHECKCAST)
+     *
+     * @param type the type
+     * @return the boolean
+     */
+    public boolean isAccessible(Class<?> type) {
+        return nestHost != null ? ClassUtil.isAccessible(type, nestHost) : ClassUtil.isPublic(type) && ClassUtil.isVisible(type, getClassLoader());
+    }
+
+    private ClassLoader getClassLoader() {
+        ClassLoader cl = defineClass.getClassLoader();
+        return cl == null ? ClassLoader.getSystemClassLoader() : cl;
+    }
+
     /**
      * Sets target.
      *
@@ -110,9 +174,27 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
      * @return the getter
      */
     public Getter<?> defineGetter(String fieldName, FieldRef fieldRef) {
+        return defineGetter(fieldName, fieldRef, getBackend());
+    }
+
+    /**
+     * Define getter getter.
+     * <p>
+     * 同一个字段的getter只定义一次, 已经定义过时不会使用传入的backend
+     *
+     * @param fieldName the field name
+     * @param fieldRef  the field ref
+     * @param backend   the backend of early field
+     * @return the getter
+     */
+    public Getter<?> defineGetter(String fieldName, FieldRef fieldRef, AccessBackend backend) {
         return getters.computeIfAbsent(fieldName, key -> {
             if (fieldRef instanceof EarlyFieldRef) {
-                return new EarlyFieldGetter(getClassName(), (EarlyFieldRef) fieldRef);
+                // 占位符后面的字段需要在调用方的方法体中展开, 不能定义成单独的方法
+                AccessBackend fieldBackend = ElementRef.hasPlaceholder(fieldRef) ? AccessBackends.get(DirectBackend.NAME) : backend;
+                return fieldBackend.newGetter(getClassName(), (EarlyFieldRef) fieldRef);
+            } else if (fieldRef instanceof ElementRef) {
+                return new ElementGetter(getClassName(), (ElementRef) fieldRef);
             } else {
                 return new RuntimeFieldGetter(getClassName(), (RuntimeFieldRef) fieldRef);
             }
@@ -137,7 +219,22 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
      * @return the setter
      */
     public Setter<?> defineSetter(String fieldName, FieldRef fieldRef) {
-        return fieldRef instanceof EarlyFieldRef ? new EarlyFieldSetter(getClassName(), (EarlyFieldRef) fieldRef)
+        return defineSetter(fieldName, fieldRef, getBackend());
+    }
+
+    /**
+     * Define setter setter.
+     *
+     * @param fieldName the field name
+     * @param fieldRef  the field ref
+     * @param backend   the backend of early field
+     * @return the setter
+     */
+    public Setter<?> defineSetter(String fieldName, FieldRef fieldRef, AccessBackend backend) {
+        if (fieldRef instanceof ElementRef) {
+            return new ElementSetter(getClassName(), (ElementRef) fieldRef);
+        }
+        return fieldRef instanceof EarlyFieldRef ? backend.newSetter(getClassName(), (EarlyFieldRef) fieldRef)
                 : new RuntimeFieldSetter(getClassName(), (RuntimeFieldRef) fieldRef);
     }
 
@@ -148,10 +245,62 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
      * @return the invoker
      */
     public Invoker<?> defineInvoker(MethodRef methodRef) {
-        return methodRef instanceof EarlyMethodRef ? new EarlyMethodInvoker(getClassName(), (EarlyMethodRef) methodRef)
+        return defineInvoker(methodRef, getBackend());
+    }
+
+    /**
+     * Define invoker invoker.
+     *
+     * @param methodRef the method ref
+     * @param backend   the backend of early method
+     * @return the invoker
+     */
+    public Invoker<?> defineInvoker(MethodRef methodRef, AccessBackend backend) {
+        return methodRef instanceof EarlyMethodRef ? backend.newInvoker(getClassName(), (EarlyMethodRef) methodRef)
                 : new RuntimeMethodInvoker(getClassName(), (RuntimeMethodRef) methodRef);
     }
 
+    /**
+     * 接口上声明的backend, 链式表达式中前面的字段使用
+     *
+     * @return the backend
+     */
+    public AccessBackend getBackend() {
+        return backend != null ? backend : AccessBackends.get(null);
+    }
+
+    /**
+     * 定义生成的辅助方法(get_/set_/invoke_/lookup_).
+     * <p>
+     * 访问器的实现类不绑定目标对象, 辅助方法的第一个参数是目标对象, 方法体中从参数列表移除
+     *
+     * @param descriptor the descriptor
+     * @return the method builder
+     */
+    public MethodBuilder defineHelperMethod(MethodDescriptor descriptor) {
+        MethodBuilder methodBuilder = defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(),
+                accessor ? withReceiver(descriptor).getType() : descriptor.getType(), null);
+        if (accessor) {
+            methodBuilder.getMethodBody().shiftReceiverArg();
+        }
+        return methodBuilder;
+    }
+
+    /**
+     * 第一个参数是目标对象的辅助方法
+     *
+     * @param descriptor the descriptor
+     * @return the method descriptor
+     */
+    public static MethodDescriptor withReceiver(MethodDescriptor descriptor) {
+        Type type = descriptor.getType();
+        Type[] argumentTypes = type.getArgumentTypes();
+        Type[] newArgumentTypes = new Type[argumentTypes.length+1];
+        newArgumentTypes[0] = ObjectVar.TYPE;
+        System.arraycopy(argumentTypes, 0, newArgumentTypes, 1, argumentTypes.length);
+        return MethodDescriptor.of(descriptor.getOwner(), descriptor.getMethodName(), Type.getMethodType(type.getReturnType(), newArgumentTypes));
+    }
+
     /**
      * Define static method handle method handle member.
      *
@@ -169,17 +318,72 @@ public class InvokeClassImplBuilder extends AsmClassBuilder {
     }
 
     /**
-     * Define method handle method handle member.
+     * 已知成员的MethodHandle是否在第一次调用时解析
+     *
+     * @return the boolean
+     * @see LazyHandles
+     */
+    public boolean isLazyHandles() {
+        return LazyHandles.ENABLED;
+    }
+
+    /**
+     * 定义第一次调用时才解析的MethodHandle, 通过ldc加载, 不需要在clinit中初始化
      *
      * @param mhMemberName the mh member name
+     * @param invokedType  the method invokedType
      * @param methodType   the method type
+     * @param constant     the constant
      * @return the method handle member
      */
-    public MethodHandleMember defineMethodHandle(String mhMemberName, Type methodType) {
-        if (!members.containsKey(mhMemberName)) {
-            super.defineField(Opcodes.ACC_PUBLIC, mhMemberName, METHOD_HANDLER_TYPE, null, null);
+    public MethodHandleMember defineLazyMethodHandle(String mhMemberName, Type invokedType, Type methodType, ConstantDynamic constant) {
+        return new ConstantMethodHandleMember(mhMemberName, invokedType, methodType, constant);
+    }
+
+    /**
+     * 定义在clinit中初始化的static final字段, 同名的字段只定义一次
+     *
+     * @param memberName the member name
+     * @param type       the type
+     * @param init       the init action
+     * @return the member
+     */
+    public Member defineStaticMember(String memberName, Type type, Action init) {
+        if (!members.containsKey(memberName)) {
+            int access = Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL;
+            super.defineField(access, memberName, type, null, null).store(getClinit(), init);
+        }
+        return members.get(memberName);
+    }
+
+    /**
+     * Define inline cache method handle member.
+     * <p>
+     * 如果define类声明了{@link io.github.hhy50.linker.annotations.InvokeDynamic}, 使用invokedynamic调用点代替内联缓存字段
+     *
+     * @param mhMemberName the mh member name
+     * @param methodType   the method type
+     * @param lookupClass  the lookup class
+     * @param memberTable  the member table
+     * @return the method handle member
+     */
+    public MethodHandleMember defineInlineCache(String mhMemberName, Type methodType, VarInst lookupClass, Action memberTable) {
+        String tableName = mhMemberName+"_table";
+        Member[] entries = new Member[RuntimeMemberTable.CACHE_DEPTH];
+        if (!members.containsKey(tableName)) {
+            super.defineField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, tableName, RuntimeMemberTable.TYPE, null, null);
+            members.get(tableName).store(getClinit(), memberTable);
+            for (int i = 0; !invokeDynamic && i < entries.length; i++) {
+                super.defineField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, mhMemberName+"_$"+i, InlineCacheEntry.TYPE, null, null);
+            }
+        }
+        if (invokeDynamic) {
+            return new InvokeDynamicMember(members.get(tableName), lookupClass, methodType);
+        }
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = members.get(mhMemberName+"_$"+i);
         }
-        return new MethodHandleMember(members.get(mhMemberName), methodType);
+        return new InlineCacheMember(members.get(tableName), entries, lookupClass, methodType);
     }
 
     /**
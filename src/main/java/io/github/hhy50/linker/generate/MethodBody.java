@@ -12,6 +12,7 @@ import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -24,7 +25,8 @@ public class MethodBody {
 
     private final MethodVisitor writer;
     private int lvbIndex;
-    private final VarInst[] args;
+    private VarInst[] args;
+    private VarInst receiverArg;
     private final Map<String, ClassLoadAction> classLoadCache;
 
     /**
@@ -82,6 +84,26 @@ public class MethodBody {
         return args;
     }
 
+    /**
+     * 第一个参数作为目标对象, 从参数列表中移除
+     *
+     * @return the receiver arg
+     */
+    public VarInst shiftReceiverArg() {
+        this.receiverArg = args[0];
+        this.args = Arrays.copyOfRange(args, 1, args.length);
+        return receiverArg;
+    }
+
+    /**
+     * Gets receiver arg.
+     *
+     * @return the receiver arg, null if the target is the bound field
+     */
+    public VarInst getReceiverArg() {
+        return receiverArg;
+    }
+
     /**
      * Gets writer.
      *
@@ -56,6 +56,25 @@ public abstract class MethodHandle {
      */
     public abstract VarInst invoke(MethodBody methodBody);
 
+    /**
+     * 调用生成的辅助方法, 访问器中把目标对象作为第一个参数传递
+     *
+     * @param body       the body
+     * @param descriptor the descriptor
+     * @param args       the args
+     * @return the method invoke action
+     */
+    protected static MethodInvokeAction invokeHelper(MethodBody body, MethodDescriptor descriptor, Action... args) {
+        VarInst receiver = body.getReceiverArg();
+        if (receiver == null) {
+            return new MethodInvokeAction(descriptor).setInstance(LoadAction.LOAD0).setArgs(args);
+        }
+        Action[] newArgs = new Action[args.length+1];
+        newArgs[0] = receiver;
+        System.arraycopy(args, 0, newArgs, 1, args.length);
+        return new MethodInvokeAction(InvokeClassImplBuilder.withReceiver(descriptor)).setInstance(LoadAction.LOAD0).setArgs(newArgs);
+    }
+
     /**
      * Init static method handle.
      *
@@ -71,78 +90,33 @@ public abstract class MethodHandle {
     }
 
     /**
-     * Mh reassign.
+     * 计算运行时成员的lookup class, 只保存在局部变量中.
+     * 接收者为null时(静态成员)使用上一级字段的声明类型
      *
-     * @param methodBody  the method body
-     * @param lookupClass the lookup class
-     * @param mhMember    the mh member
-     * @param objVar      the obj var
-     */
-    protected abstract void mhReassign(MethodBody methodBody, ClassTypeMember lookupClass, MethodHandleMember mhMember, VarInst objVar);
-
-    /**
-     * Check look class.
-     *
-     * @param body        the body
-     * @param lookupClass the lookup class
-     * @param varInst     the var inst
-     * @param prevGetter  the prev getter
+     * @param body          the body
+     * @param varInst       the var inst
+     * @param prevGetter    the prev getter
+     * @param prevFieldName the prev field name
+     * @return the lookup class
      */
-    protected void checkLookClass(MethodBody body, ClassTypeMember lookupClass, VarInst varInst, Getter<?> prevGetter) {
-        body.append(new ConditionJumpAction(
-                must(notNull(varInst),
-                        any(isNull(lookupClass), notEq(varInst.getThisClass(), lookupClass))),
-                lookupClass.store(varInst.getThisClass()),
-                null
-        ));
+    protected LocalVarInst lookupClass(MethodBody body, VarInst varInst, Getter<?> prevGetter, String prevFieldName) {
+        LocalVarInst lookupClass = body.newLocalVar(TypeUtils.CLASS_TYPE, "lookupClass", Actions.loadNull());
+        Action staticLookup = null;
         if (prevGetter instanceof TargetFieldGetter) {
             final ClassTypeMember targetClass = ((TargetFieldGetter) prevGetter).getTargetClass();
-            if (targetClass != null) {
-                // runtime
-                body.append(new ConditionJumpAction(
-                        isNull(lookupClass),
-                        lookupClass.store(targetClass),
-                        null
-                ));
-            } else {
-                // not runtime
-                Type defaultType = ((TargetFieldGetter) prevGetter).getTargetType();
-                body.append(new ConditionJumpAction(
-                        isNull(lookupClass),
-                        lookupClass.store(loadClass(defaultType)),
-                        null
-                ));
-            }
+            // runtime : not runtime
+            Action defaultClass = targetClass != null ? targetClass : loadClass(((TargetFieldGetter) prevGetter).getTargetType());
+            staticLookup = __ -> lookupClass.store(defaultClass);
+        } else if (prevGetter.getLookupClass() != null) {
+            Action prevLookup = prevGetter.getLookupClass();
+            staticLookup = __ -> lookupClass.store(new MethodInvokeAction(Runtime.FIND_FIELD).setArgs(prevLookup, LdcLoadAction.of(prevFieldName)));
         }
-    }
-
-    /**
-     * Static check class.
-     *
-     * @param body          the body
-     * @param lookupClass   the lookup class
-     * @param prevFieldName the prev field name
-     * @param prevLookup    the prev lookup
-     */
-    protected void staticCheckClass(MethodBody body, ClassTypeMember lookupClass, String prevFieldName, ClassTypeMember prevLookup) {
         body.append(new ConditionJumpAction(
-                isNull(lookupClass),
-                lookupClass.store(new MethodInvokeAction(Runtime.FIND_FIELD).setArgs(prevLookup, LdcLoadAction.of(prevFieldName))),
-                null
+                notNull(varInst),
+                __ -> lookupClass.store(varInst.getThisClass()),
+                staticLookup
         ));
-    }
-
-
-    /**
-     * Check method handle.
-     *
-     * @param methodBody  the method body
-     * @param lookupClass the lookup class
-     * @param mhMember    the mh member
-     * @param objVar      the obj var
-     */
-    protected void checkMethodHandle(MethodBody methodBody, ClassTypeMember lookupClass, MethodHandleMember mhMember, VarInst objVar) {
-        methodBody.append(mhMember.ifNull(body -> mhReassign(body, lookupClass, mhMember, objVar)));
+        return lookupClass;
     }
 
     /**
@@ -0,0 +1,47 @@
+package io.github.hhy50.linker.generate.atomic;
+
+import io.github.hhy50.linker.asm.AsmUtil;
+import io.github.hhy50.linker.define.MethodDefine;
+import io.github.hhy50.linker.generate.AbstractDecorator;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import org.objectweb.asm.Type;
+
+/**
+ * The type Atomic decorator.
+ */
+public class AtomicDecorator extends AbstractDecorator {
+
+    private final EarlyFieldAtomic atomic;
+    private final MethodDefine methodDefine;
+
+    /**
+     * Instantiates a new Atomic decorator.
+     *
+     * @param atomic       the atomic
+     * @param methodDefine the method define
+     */
+    public AtomicDecorator(EarlyFieldAtomic atomic, MethodDefine methodDefine) {
+        this.atomic = atomic;
+        this.methodDefine = methodDefine;
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        atomic.define(classImplBuilder);
+    }
+
+    @Override
+    public VarInst invoke(MethodBody methodBody) {
+        typecastArgs(methodBody, methodBody.getArgs(), methodDefine.getParameterTypes(), atomic.getDescriptor().getType().getArgumentTypes());
+        VarInst result = atomic.invoke(methodBody);
+        if (result != null) {
+            typecastResult(methodBody, result, methodDefine.method.getReturnType())
+                    .returnThis();
+        } else {
+            AsmUtil.areturn(methodBody.getWriter(), Type.VOID_TYPE);
+        }
+        return null;
+    }
+}
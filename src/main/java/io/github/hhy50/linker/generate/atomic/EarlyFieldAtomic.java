@@ -0,0 +1,86 @@
+package io.github.hhy50.linker.generate.atomic;
+
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.define.field.AtomicMode;
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.MethodHandle;
+import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.utils.Args;
+import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.runtime.AtomicFieldHandles;
+import io.github.hhy50.linker.util.ClassUtil;
+import org.objectweb.asm.Type;
+
+/**
+ * 字段的原子访问(CAS, getAndAdd, volatile读, release写), 通过{@link AtomicFieldHandles}获取MethodHandle.
+ */
+public class EarlyFieldAtomic extends MethodHandle {
+
+    private final EarlyFieldRef field;
+    private final AtomicMode mode;
+    private final Type valueType;
+    private final MethodDescriptor descriptor;
+
+    /**
+     * Instantiates a new Early field atomic.
+     *
+     * @param implClass the impl class
+     * @param field     the field
+     * @param mode      the mode
+     */
+    public EarlyFieldAtomic(String implClass, EarlyFieldRef field, AtomicMode mode) {
+        this.field = field;
+        this.mode = mode;
+        this.valueType = field.isInvisible() ? ObjectVar.TYPE : field.getType();
+        this.descriptor = MethodDescriptor.of(ClassUtil.className2path(implClass), mode.getPrefix()+"_"+field.getUniqueName(),
+                mode.methodType(valueType));
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        FieldRef prevField = field.getPrev();
+        Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
+        getter.define(classImplBuilder);
+
+        // 接收者统一是Object类型, 声明类不需要在实现类中可见
+        MethodHandleMember mhMember = classImplBuilder.defineStaticMethodHandle(field.getUniqueName()+"_"+mode.getPrefix()+"_mh", ObjectVar.TYPE, descriptor.getType());
+        mhMember.setInvokeExact(true);
+        ClassLoadAction lookupClass = loadClass(field.getDeclaredType());
+        mhMember.store(classImplBuilder.getClinit(), new MethodInvokeAction(AtomicFieldHandles.FIND)
+                .setArgs(lookupClass.getLookup(), lookupClass, LdcLoadAction.of(field.fieldName), LdcLoadAction.of(mode.name()),
+                        loadClass(valueType)));
+
+        classImplBuilder.defineHelperMethod(descriptor)
+                .intercept((field.isStatic()
+                        ? mhMember.invokeStatic(Args.loadArgs())
+                        : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> mhMember.invokeInstance(varInst, Args.loadArgs())))
+                        .andThen(Actions.areturn(descriptor.getReturnType()))
+                );
+    }
+
+    @Override
+    public VarInst invoke(MethodBody methodBody) {
+        MethodInvokeAction invoker = invokeHelper(methodBody, descriptor, methodBody.getArgs());
+        Type rType = descriptor.getReturnType();
+        if (rType.getSort() == Type.VOID) {
+            methodBody.append(invoker);
+            return null;
+        }
+        return methodBody.newLocalVar(rType, field.fieldName, invoker);
+    }
+
+    /**
+     * Gets descriptor.
+     *
+     * @return the descriptor
+     */
+    public MethodDescriptor getDescriptor() {
+        return descriptor;
+    }
+}
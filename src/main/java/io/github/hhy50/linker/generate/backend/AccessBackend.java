@@ -0,0 +1,51 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.method.EarlyMethodRef;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.generate.invoker.Invoker;
+import io.github.hhy50.linker.generate.setter.Setter;
+
+/**
+ * 已知成员的访问方式, 通过{@link io.github.hhy50.linker.annotations.Backend}选择.
+ * <p>
+ * 生成的getter/setter/invoker可以定义为实现类的辅助方法(get_/set_/invoke_), 也可以在调用方展开, 自定义的实现通过ServiceLoader注册
+ *
+ * @see AccessBackends
+ */
+public interface AccessBackend {
+
+    /**
+     * 名称, {@link io.github.hhy50.linker.annotations.Backend#value()}
+     *
+     * @return the name
+     */
+    String name();
+
+    /**
+     * New getter.
+     *
+     * @param implClass the impl class
+     * @param fieldRef  the field ref
+     * @return the getter
+     */
+    Getter<?> newGetter(String implClass, EarlyFieldRef fieldRef);
+
+    /**
+     * New setter.
+     *
+     * @param implClass the impl class
+     * @param fieldRef  the field ref
+     * @return the setter
+     */
+    Setter<?> newSetter(String implClass, EarlyFieldRef fieldRef);
+
+    /**
+     * New invoker.
+     *
+     * @param implClass the impl class
+     * @param methodRef the method ref
+     * @return the invoker
+     */
+    Invoker<?> newInvoker(String implClass, EarlyMethodRef methodRef);
+}
@@ -0,0 +1,83 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.annotations.Backend;
+import io.github.hhy50.linker.exceptions.VerifyException;
+import io.github.hhy50.linker.util.StringUtil;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 所有可用的{@link AccessBackend}, 内置的实现和ServiceLoader注册的实现.
+ */
+public class AccessBackends {
+
+    private static final Map<String, AccessBackend> BACKENDS = new ConcurrentHashMap<>();
+
+    static {
+        register(new DirectBackend());
+        register(new MethodHandleBackend());
+        register(new ReflectBackend());
+        for (AccessBackend backend : ServiceLoader.load(AccessBackend.class, AccessBackend.class.getClassLoader())) {
+            register(backend);
+        }
+    }
+
+    /**
+     * 注册backend, 同名的会被覆盖
+     *
+     * @param backend the backend
+     */
+    public static void register(AccessBackend backend) {
+        BACKENDS.put(backend.name(), backend);
+    }
+
+    /**
+     * 没有声明{@link Backend}时使用的名称, 通过-Dlinker.backend指定
+     *
+     * @return the name
+     */
+    public static String defaultName() {
+        return System.getProperty("linker.backend", DirectBackend.NAME);
+    }
+
+    /**
+     * Get backend.
+     *
+     * @param name the name
+     * @return the backend
+     */
+    public static AccessBackend get(String name) {
+        String key = StringUtil.isEmpty(name) ? defaultName() : name;
+        AccessBackend backend = BACKENDS.get(key);
+        if (backend == null) {
+            throw new VerifyException("backend ["+key+"] not found, available "+BACKENDS.keySet());
+        }
+        return backend;
+    }
+
+    /**
+     * 接口上声明的backend
+     *
+     * @param define the define
+     * @return the backend
+     */
+    public static AccessBackend of(Class<?> define) {
+        Backend backend = define.getDeclaredAnnotation(Backend.class);
+        return get(backend == null ? null : backend.value());
+    }
+
+    /**
+     * 方法上声明的backend, 没有时使用接口上的
+     *
+     * @param define the define
+     * @param method the method
+     * @return the backend
+     */
+    public static AccessBackend of(Class<?> define, Method method) {
+        Backend backend = method.getDeclaredAnnotation(Backend.class);
+        return backend == null ? of(define) : get(backend.value());
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.method.EarlyMethodRef;
+import io.github.hhy50.linker.generate.getter.EarlyFieldGetter;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.generate.invoker.EarlyMethodInvoker;
+import io.github.hhy50.linker.generate.invoker.Invoker;
+import io.github.hhy50.linker.generate.setter.EarlyFieldSetter;
+import io.github.hhy50.linker.generate.setter.Setter;
+
+/**
+ * 默认的访问方式, 成员可以访问时直接GETFIELD/PUTFIELD/INVOKEVIRTUAL, 否则使用static final的MethodHandle.
+ */
+public class DirectBackend implements AccessBackend {
+
+    /**
+     * The constant NAME.
+     */
+    public static final String NAME = "direct";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Getter<?> newGetter(String implClass, EarlyFieldRef fieldRef) {
+        return new EarlyFieldGetter(implClass, fieldRef);
+    }
+
+    @Override
+    public Setter<?> newSetter(String implClass, EarlyFieldRef fieldRef) {
+        return new EarlyFieldSetter(implClass, fieldRef);
+    }
+
+    @Override
+    public Invoker<?> newInvoker(String implClass, EarlyMethodRef methodRef) {
+        return new EarlyMethodInvoker(implClass, methodRef);
+    }
+}
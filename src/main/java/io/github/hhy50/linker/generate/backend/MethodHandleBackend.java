@@ -0,0 +1,41 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.method.EarlyMethodRef;
+import io.github.hhy50.linker.generate.getter.EarlyFieldGetter;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.generate.invoker.EarlyMethodInvoker;
+import io.github.hhy50.linker.generate.invoker.Invoker;
+import io.github.hhy50.linker.generate.setter.EarlyFieldSetter;
+import io.github.hhy50.linker.generate.setter.Setter;
+
+/**
+ * 所有成员都通过static final的MethodHandle访问, public成员也不直接访问.
+ */
+public class MethodHandleBackend implements AccessBackend {
+
+    /**
+     * The constant NAME.
+     */
+    public static final String NAME = "methodhandle";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Getter<?> newGetter(String implClass, EarlyFieldRef fieldRef) {
+        return new EarlyFieldGetter(implClass, fieldRef, false);
+    }
+
+    @Override
+    public Setter<?> newSetter(String implClass, EarlyFieldRef fieldRef) {
+        return new EarlyFieldSetter(implClass, fieldRef, false);
+    }
+
+    @Override
+    public Invoker<?> newInvoker(String implClass, EarlyMethodRef methodRef) {
+        return new EarlyMethodInvoker(implClass, methodRef, false);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.asm.AsmUtil;
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.method.EarlyMethodRef;
+import io.github.hhy50.linker.generate.bytecode.action.Action;
+import io.github.hhy50.linker.generate.bytecode.action.LoadAction;
+import io.github.hhy50.linker.generate.bytecode.action.TypeCastAction;
+import io.github.hhy50.linker.generate.bytecode.action.UnBoxAction;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.generate.invoker.Invoker;
+import io.github.hhy50.linker.generate.setter.Setter;
+import org.objectweb.asm.Type;
+
+/**
+ * 通过{@link java.lang.reflect.Field}和{@link java.lang.reflect.Method}访问, Field/Method缓存在实现类的静态字段中.
+ * <p>
+ * 需要可以setAccessible, 命名模块中没有开放的成员在实现类初始化时失败
+ */
+public class ReflectBackend implements AccessBackend {
+
+    /**
+     * The constant NAME.
+     */
+    public static final String NAME = "reflect";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Getter<?> newGetter(String implClass, EarlyFieldRef fieldRef) {
+        return new ReflectFieldGetter(implClass, fieldRef);
+    }
+
+    @Override
+    public Setter<?> newSetter(String implClass, EarlyFieldRef fieldRef) {
+        return new ReflectFieldSetter(implClass, fieldRef);
+    }
+
+    @Override
+    public Invoker<?> newInvoker(String implClass, EarlyMethodRef methodRef) {
+        return new ReflectMethodInvoker(implClass, methodRef);
+    }
+
+    /**
+     * 反射返回的Object转换为辅助方法的返回类型
+     */
+    static Action unwrap(LoadAction result, Type rType) {
+        return AsmUtil.isPrimitiveType(rType) ? new UnBoxAction(result, rType) : new TypeCastAction(result, rType);
+    }
+}
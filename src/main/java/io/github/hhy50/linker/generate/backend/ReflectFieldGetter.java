@@ -0,0 +1,43 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.bytecode.Member;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.runtime.ReflectAccess;
+
+/**
+ * The type Reflect field getter.
+ */
+public class ReflectFieldGetter extends Getter<EarlyFieldRef> {
+
+    /**
+     * Instantiates a new Reflect field getter.
+     *
+     * @param implClass the impl class
+     * @param fieldRef  the field ref
+     */
+    public ReflectFieldGetter(String implClass, EarlyFieldRef fieldRef) {
+        super(implClass, fieldRef);
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        FieldRef prevField = field.getPrev();
+        Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
+        getter.define(classImplBuilder);
+
+        Member reflectField = ReflectFieldSetter.defineReflectField(classImplBuilder, field, loadClass(field.getDeclaredType()));
+
+        // Field.get(obj)
+        classImplBuilder.defineHelperMethod(descriptor)
+                .intercept((field.isStatic()
+                        ? ReflectBackend.unwrap(new MethodInvokeAction(ReflectAccess.GET).setArgs(reflectField, Actions.loadNull()), descriptor.getReturnType())
+                        : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> ReflectBackend.unwrap(new MethodInvokeAction(ReflectAccess.GET).setArgs(reflectField, varInst), descriptor.getReturnType())))
+                        .andThen(Actions.areturn(descriptor.getReturnType()))
+                );
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.define.field.EarlyFieldRef;
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.bytecode.Member;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.utils.Args;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.generate.setter.Setter;
+import io.github.hhy50.linker.runtime.ReflectAccess;
+
+/**
+ * The type Reflect field setter.
+ */
+public class ReflectFieldSetter extends Setter<EarlyFieldRef> {
+
+    /**
+     * Instantiates a new Reflect field setter.
+     *
+     * @param implClass the impl class
+     * @param field     the field
+     */
+    public ReflectFieldSetter(String implClass, EarlyFieldRef field) {
+        super(implClass, field);
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        FieldRef prevField = field.getPrev();
+        Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
+        getter.define(classImplBuilder);
+
+        Member reflectField = defineReflectField(classImplBuilder, field, loadClass(field.getDeclaredType()));
+        Action value = new BoxAction(Args.of(0));
+
+        // Field.set(obj, value)
+        classImplBuilder.defineHelperMethod(descriptor)
+                .intercept((field.isStatic()
+                        ? new MethodInvokeAction(ReflectAccess.SET).setArgs(reflectField, Actions.loadNull(), value)
+                        : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> new MethodInvokeAction(ReflectAccess.SET).setArgs(reflectField, varInst, value)))
+                        .andThen(Actions.vreturn())
+                );
+    }
+
+    /**
+     * getter和setter共用同一个Field
+     */
+    static Member defineReflectField(InvokeClassImplBuilder classImplBuilder, EarlyFieldRef field, ClassLoadAction owner) {
+        return classImplBuilder.defineStaticMember(field.getUniqueName()+"_field", ReflectAccess.FIELD_TYPE,
+                new MethodInvokeAction(ReflectAccess.FIND_FIELD).setArgs(owner, LdcLoadAction.of(field.fieldName)));
+    }
+}
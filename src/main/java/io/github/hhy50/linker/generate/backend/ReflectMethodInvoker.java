@@ -0,0 +1,75 @@
+package io.github.hhy50.linker.generate.backend;
+
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.define.method.EarlyMethodRef;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.bytecode.Member;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.utils.Args;
+import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.generate.invoker.EarlyMethodInvoker;
+import io.github.hhy50.linker.runtime.ReflectAccess;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The type Reflect method invoker.
+ */
+public class ReflectMethodInvoker extends EarlyMethodInvoker {
+
+    /**
+     * Instantiates a new Reflect method invoker.
+     *
+     * @param implClass the impl class
+     * @param methodRef the method ref
+     */
+    public ReflectMethodInvoker(String implClass, EarlyMethodRef methodRef) {
+        super(implClass, methodRef, false);
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        if (method.getSuperClass() != null) {
+            // Method.invoke总是虚调用, invokeSuper仍然使用MethodHandle
+            super.define0(classImplBuilder);
+            return;
+        }
+        FieldRef owner = method.getOwner();
+        Getter<?> getter = classImplBuilder.getGetter(owner.getUniqueName());
+        getter.define(classImplBuilder);
+
+        Action paramTypes = Actions.asArray(TypeUtils.CLASS_TYPE, Arrays.stream(method.getMethodType().getArgumentTypes())
+                .map(LdcLoadAction::of).toArray(Action[]::new));
+        Member reflectMethod = classImplBuilder.defineStaticMember(method.getFullName()+"_method", ReflectAccess.METHOD_TYPE,
+                new MethodInvokeAction(ReflectAccess.FIND_METHOD).setArgs(loadClass(method.getDeclareType()), LdcLoadAction.of(method.getName()), paramTypes));
+        Action args = Actions.asArray(ObjectVar.TYPE, IntStream.range(0, descriptor.getType().getArgumentTypes().length)
+                .mapToObj(Args::of).map(BoxAction::new).toArray(Action[]::new));
+
+        // Method.invoke(obj, args)
+        Function<Action, Action> invoke = obj -> result(new MethodInvokeAction(ReflectAccess.INVOKE).setArgs(reflectMethod, obj, args));
+        classImplBuilder.defineHelperMethod(descriptor)
+                .intercept((method.isStatic()
+                        ? invoke.apply(Actions.loadNull())
+                        : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(invoke::apply))
+                        .andThen(Actions.areturn(descriptor.getReturnType()))
+                );
+    }
+
+    private Action result(MethodInvokeAction invoke) {
+        Type rType = descriptor.getReturnType();
+        if (rType.getSort() == Type.VOID) {
+            return body -> {
+                invoke.apply(body);
+                body.getWriter().visitInsn(Opcodes.POP);
+            };
+        }
+        return ReflectBackend.unwrap(invoke, rType);
+    }
+}
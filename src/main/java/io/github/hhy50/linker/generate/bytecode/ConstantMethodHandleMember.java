@@ -0,0 +1,39 @@
+package io.github.hhy50.linker.generate.bytecode;
+
+import io.github.hhy50.linker.exceptions.ClassBuildException;
+import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.bytecode.action.Action;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * 通过ldc ConstantDynamic加载的MethodHandle, 不需要定义字段, 第一次执行时才会解析.
+ */
+public class ConstantMethodHandleMember extends MethodHandleMember {
+
+    private final ConstantDynamic constant;
+
+    /**
+     * Instantiates a new Constant method handle member.
+     *
+     * @param memberName  the member name
+     * @param invokerType the invoker type
+     * @param methodType  the method type
+     * @param constant    the constant
+     */
+    public ConstantMethodHandleMember(String memberName, Type invokerType, Type methodType, ConstantDynamic constant) {
+        super(new Member(Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, null, memberName, Type.getType(constant.getDescriptor())), invokerType, methodType);
+        this.constant = constant;
+    }
+
+    @Override
+    public void load(MethodBody body) {
+        body.getWriter().visitLdcInsn(constant);
+    }
+
+    @Override
+    public void store(MethodBody body, Action action) {
+        throw new ClassBuildException("constant member '"+memberName+"' can not be stored");
+    }
+}
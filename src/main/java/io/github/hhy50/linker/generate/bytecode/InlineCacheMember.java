@@ -0,0 +1,88 @@
+package io.github.hhy50.linker.generate.bytecode;
+
+import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.vars.LocalVarInst;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.runtime.InlineCacheEntry;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.Type;
+
+import static io.github.hhy50.linker.generate.bytecode.action.Condition.*;
+
+/**
+ * 运行时成员的多态内联缓存.
+ * <p>
+ * 按照lookup class依次比较每一个缓存项, 全部未命中时从{@link RuntimeMemberTable}中获取并填充到空闲的缓存项,
+ * 缓存项用完之后(超多态)只使用{@link RuntimeMemberTable}.
+ * 缓存项都是静态字段, 同一个实现类的所有实例共享, 新创建的linker不需要重新解析
+ */
+public class InlineCacheMember extends MethodHandleMember {
+
+    private final Member[] entries;
+
+    private final VarInst lookupClass;
+
+    /**
+     * Instantiates a new Inline cache member.
+     *
+     * @param table       the member table
+     * @param entries     the cache entries
+     * @param lookupClass the lookup class
+     * @param methodType  the method type
+     */
+    public InlineCacheMember(Member table, Member[] entries, VarInst lookupClass, Type methodType) {
+        super(table, methodType);
+        this.entries = entries;
+        this.lookupClass = lookupClass;
+    }
+
+    /**
+     * 加载当前lookup class对应的MethodHandle
+     *
+     * @param body the body
+     */
+    @Override
+    public void load(MethodBody body) {
+        LocalVarInst mh = body.newLocalVar(TypeUtils.METHOD_HANDLER_TYPE, "mh", Actions.loadNull());
+        LocalVarInst entry = body.newLocalVar(InlineCacheEntry.TYPE, "entry", null);
+        for (Member cacheEntry : entries) {
+            body.append(new ConditionJumpAction(isNull(mh), b -> {
+                entry.store(cacheEntry);
+                b.append(new ConditionJumpAction(
+                        must(notNull(entry), eq(new FieldAction(entry, "type", TypeUtils.CLASS_TYPE), lookupClass)),
+                        __ -> mh.store(new FieldAction(entry, "handle", TypeUtils.METHOD_HANDLER_TYPE)),
+                        null));
+            }, null));
+        }
+
+        // miss
+        body.append(new ConditionJumpAction(isNull(mh), b -> {
+            mh.store(new MethodInvokeAction(RuntimeMemberTable.RESOLVE)
+                    .setInstance(memberTable())
+                    .setArgs(lookupClass));
+            b.append(fill(0, mh));
+        }, null));
+        mh.loadToStack();
+    }
+
+    @Override
+    protected Action isStatic() {
+        return new MethodInvokeAction(RuntimeMemberTable.IS_STATIC).setInstance(memberTable()).setArgs(lookupClass);
+    }
+
+    private Action fill(int i, LocalVarInst mh) {
+        if (i >= entries.length) {
+            return null;
+        }
+        return new ConditionJumpAction(isNull(entries[i]),
+                entries[i].store(new NewObjectAction(InlineCacheEntry.TYPE, TypeUtils.CLASS_TYPE, TypeUtils.METHOD_HANDLER_TYPE)
+                        .setArgs(lookupClass, mh)),
+                fill(i+1, mh));
+    }
+
+    private Member memberTable() {
+        return new Member(access, owner, memberName, type);
+    }
+}
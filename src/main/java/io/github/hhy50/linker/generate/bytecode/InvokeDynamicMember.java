@@ -0,0 +1,56 @@
+package io.github.hhy50.linker.generate.bytecode;
+
+import io.github.hhy50.linker.asm.AsmUtil;
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.generate.bytecode.action.Action;
+import io.github.hhy50.linker.generate.bytecode.action.InvokeDynamicAction;
+import io.github.hhy50.linker.generate.bytecode.action.MethodInvokeAction;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.runtime.RuntimeCallSite;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.Type;
+
+/**
+ * 使用invokedynamic调用的运行时成员.
+ * <p>
+ * 不会生成MethodHandle字段, 调用点由{@link RuntimeCallSite}链接, 引导方法通过table字段名获取{@link io.github.hhy50.linker.runtime.RuntimeMemberTable}
+ */
+public class InvokeDynamicMember extends MethodHandleMember {
+
+    private final VarInst lookupClass;
+
+    private final Type methodType;
+
+    /**
+     * Instantiates a new Invoke dynamic member.
+     *
+     * @param table       the member table
+     * @param lookupClass the lookup class
+     * @param methodType  the method type
+     */
+    public InvokeDynamicMember(Member table, VarInst lookupClass, Type methodType) {
+        super(table, methodType);
+        this.lookupClass = lookupClass;
+        this.methodType = methodType;
+    }
+
+    @Override
+    public MethodInvokeAction invokeInstance(VarInst that, Action... args) {
+        Action[] newArgs = new Action[args.length+2];
+        newArgs[0] = lookupClass;
+        newArgs[1] = that;
+        System.arraycopy(args, 0, newArgs, 2, args.length);
+
+        // (Class lookupClass, Object receiver, args...)
+        Type callSiteType = AsmUtil.addArgsDesc(AsmUtil.addArgsDesc(methodType, that.getType(), true), TypeUtils.CLASS_TYPE, true);
+        return new InvokeDynamicAction(MethodDescriptor.of(owner, memberName, callSiteType), RuntimeCallSite.BOOTSTRAP, memberName)
+                .setArgs(newArgs);
+    }
+
+    @Override
+    protected Action isStatic() {
+        Member table = new Member(access, owner, memberName, type);
+        return new MethodInvokeAction(RuntimeMemberTable.IS_STATIC).setInstance(table).setArgs(lookupClass);
+    }
+}
@@ -5,7 +5,6 @@ import io.github.hhy50.linker.asm.AsmUtil;
 import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
-import io.github.hhy50.linker.runtime.RuntimeUtil;
 import org.objectweb.asm.Type;
 
 /**
@@ -45,28 +44,28 @@ public class MethodHandleMember extends Member {
     }
 
     /**
-     * Invoke action.
+     * 接收者为null时, 不是静态成员则抛出带名字的NullPointerException, 否则调用MethodHandle.
+     * 是否是静态成员在运行时解析, 只在null分支判断
      *
      * @param that the that
      * @param args the args
      * @return the action
      */
     public Action invoke(VarInst that, Action... args) {
-        MethodInvokeAction isStatic = new MethodInvokeAction(RuntimeUtil.IS_STATIC)
-                .setArgs(this);
-        return new ConditionJumpAction(Condition.ifTrue(isStatic),
-                invokeStatic(args),
-                new ConditionJumpAction(Condition.isNull(that), Actions.throwNullException(that.getName()), invokeInstance(that, args))
-        );
+        Action isStatic = isStatic();
+        Condition isNullReceiver = isStatic == null ? Condition.isNull(that) : Condition.must(Condition.isNull(that), Condition.ifFalse(isStatic));
+        return new ConditionJumpAction(isNullReceiver,
+                Actions.throwNullException(that.getName()),
+                invokeInstance(that, args));
     }
 
-    public Action invokeOfNull(VarInst that, Action... args) {
-        MethodInvokeAction isStatic = new MethodInvokeAction(RuntimeUtil.IS_STATIC)
-                .setArgs(this);
-        return new ConditionJumpAction(Condition.ifTrue(isStatic),
-                invokeStatic(args),
-                invokeInstance(that, args)
-        );
+    /**
+     * 判断当前成员是否是静态成员, null表示只能是实例成员
+     *
+     * @return the action
+     */
+    protected Action isStatic() {
+        return null;
     }
 
     /**
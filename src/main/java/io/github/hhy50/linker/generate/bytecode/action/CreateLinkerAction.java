@@ -1,7 +1,11 @@
 package io.github.hhy50.linker.generate.bytecode.action;
 
+import io.github.hhy50.linker.LinkerCache;
+import io.github.hhy50.linker.asm.AsmClassBuilder;
 import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
 import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.bytecode.Member;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import org.objectweb.asm.Type;
 
@@ -10,6 +14,8 @@ import org.objectweb.asm.Type;
  */
 public class CreateLinkerAction implements Action {
 
+    private static final Type LINKER_CACHE_TYPE = Type.getType(LinkerCache.class);
+
     private final Type linkerType;
     private final VarInst obj;
 
@@ -27,7 +33,18 @@ public class CreateLinkerAction implements Action {
 
     @Override
     public void apply(MethodBody body) {
-        body.append(obj.ifNull(Actions.returnNull(), new MethodInvokeAction(MethodDescriptor.LINKER_FACTORY_CREATE_LINKER)
-                .setArgs(LdcLoadAction.of(linkerType), obj)));
+        AsmClassBuilder classBuilder = body.getClassBuilder();
+        Action create;
+        if (classBuilder instanceof InvokeClassImplBuilder) {
+            // 每个连接器类型一个static final的LinkerCache, 不需要每次都经过LinkerFactory解析和查找实现类
+            String memberName = linkerType.getInternalName().replace('/', '_')+"_linker_cache";
+            Member cache = ((InvokeClassImplBuilder) classBuilder).defineStaticMember(memberName, LINKER_CACHE_TYPE,
+                    new MethodInvokeAction(MethodDescriptor.LINKER_CACHE_OF).setArgs(LdcLoadAction.of(linkerType)));
+            create = new MethodInvokeAction(MethodDescriptor.LINKER_CACHE_CREATE).setInstance(cache).setArgs(obj);
+        } else {
+            create = new MethodInvokeAction(MethodDescriptor.LINKER_FACTORY_CREATE_LINKER)
+                    .setArgs(LdcLoadAction.of(linkerType), obj);
+        }
+        body.append(obj.ifNull(Actions.returnNull(), create));
     }
 }
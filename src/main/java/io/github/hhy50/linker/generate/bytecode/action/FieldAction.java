@@ -12,7 +12,8 @@ import org.objectweb.asm.Type;
  */
 public class FieldAction implements LoadAction {
 
-    private final LoadAction owner;
+    private final Action owner;
+    private final Type ownerType;
     private final String fieldName;
     private final Type fieldType;
     /**
@@ -28,12 +29,37 @@ public class FieldAction implements LoadAction {
      * @param fieldType the field type
      */
     public FieldAction(LoadAction owner, String fieldName, Type fieldType) {
+        this(owner, null, fieldName, fieldType);
+    }
+
+    /**
+     * Instantiates a new Field action.
+     *
+     * @param owner     the owner, null if the field is static
+     * @param ownerType the declaring type, null to use the type of the owner
+     * @param fieldName the name
+     * @param fieldType the field type
+     */
+    public FieldAction(Action owner, Type ownerType, String fieldName, Type fieldType) {
         this.owner = owner;
+        this.ownerType = ownerType;
         this.fieldName = fieldName;
         this.fieldType = fieldType;
         this.isStatic = false;
     }
 
+    /**
+     * Of static field action.
+     *
+     * @param ownerType the declaring type
+     * @param fieldName the name
+     * @param fieldType the field type
+     * @return the field action
+     */
+    public static FieldAction ofStatic(Type ownerType, String fieldName, Type fieldType) {
+        return new FieldAction(null, ownerType, fieldName, fieldType).setStatic();
+    }
+
     /**
      * Sets static.
      *
@@ -47,8 +73,10 @@ public class FieldAction implements LoadAction {
     @Override
     public void load(MethodBody body) {
         MethodVisitor mv = body.getWriter();
-        body.append(this.owner);
-        mv.visitFieldInsn(isStatic ? Opcodes.GETSTATIC : Opcodes.GETFIELD, owner.getType().getInternalName(), this.fieldName, fieldType.getDescriptor());
+        if (!isStatic) {
+            body.append(this.owner);
+        }
+        mv.visitFieldInsn(isStatic ? Opcodes.GETSTATIC : Opcodes.GETFIELD, getOwnerType().getInternalName(), this.fieldName, fieldType.getDescriptor());
     }
 
     /**
@@ -60,12 +88,18 @@ public class FieldAction implements LoadAction {
     public Action store(Action action) {
         return (body) -> {
             MethodVisitor mv = body.getWriter();
-            body.append(this.owner);
+            if (!isStatic) {
+                body.append(this.owner);
+            }
             action.apply(body);
-            mv.visitFieldInsn(isStatic ? Opcodes.PUTSTATIC : Opcodes.PUTFIELD, owner.getType().getInternalName(), this.fieldName, fieldType.getDescriptor());
+            mv.visitFieldInsn(isStatic ? Opcodes.PUTSTATIC : Opcodes.PUTFIELD, getOwnerType().getInternalName(), this.fieldName, fieldType.getDescriptor());
         };
     }
 
+    private Type getOwnerType() {
+        return ownerType != null ? ownerType : ((TypedAction) owner).getType();
+    }
+
     @Override
     public Type getType() {
         return fieldType;
@@ -0,0 +1,36 @@
+package io.github.hhy50.linker.generate.bytecode.action;
+
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.generate.MethodBody;
+import org.objectweb.asm.Handle;
+
+/**
+ * The type Invoke dynamic action.
+ */
+public class InvokeDynamicAction extends MethodInvokeAction {
+
+    private final Handle bootstrap;
+
+    private final Object[] bootstrapArgs;
+
+    /**
+     * Instantiates a new Invoke dynamic action.
+     *
+     * @param descriptor    the call site name and type, the owner is ignored
+     * @param bootstrap     the bootstrap
+     * @param bootstrapArgs the bootstrap args
+     */
+    public InvokeDynamicAction(MethodDescriptor descriptor, Handle bootstrap, Object... bootstrapArgs) {
+        super(descriptor);
+        this.bootstrap = bootstrap;
+        this.bootstrapArgs = bootstrapArgs;
+    }
+
+    @Override
+    public void apply(MethodBody body) {
+        for (int i = 0; i < (args == null ? 0 : args.length); i++) {
+            args[i].apply(body);
+        }
+        body.getWriter().visitInvokeDynamicInsn(descriptor.getMethodName(), descriptor.getDesc(), bootstrap, bootstrapArgs);
+    }
+}
@@ -4,13 +4,13 @@ import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.method.ConstructorRef;
 import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
 import io.github.hhy50.linker.generate.MethodBody;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
 import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.utils.Args;
 import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import io.github.hhy50.linker.generate.invoker.Invoker;
+import io.github.hhy50.linker.runtime.LazyHandles;
 import io.github.hhy50.linker.util.TypeUtils;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -35,11 +35,15 @@ public class Constructor extends Invoker<ConstructorRef> {
 
     @Override
     protected void define0(InvokeClassImplBuilder classImplBuilder) {
-        MethodBody clinit = classImplBuilder.getClinit();
-
         // init methodHandle
-        MethodHandleMember mhMember = classImplBuilder.defineStaticMethodHandle(method.getInvokerName(), null, descriptor.getType());
-        initStaticMethodHandle(clinit, mhMember, loadClass(method.getDeclareType()), null, descriptor.getType(), false);
+        MethodHandleMember mhMember;
+        if (classImplBuilder.isLazyHandles()) {
+            mhMember = classImplBuilder.defineLazyMethodHandle(method.getInvokerName(), null, descriptor.getType(),
+                    LazyHandles.constructor(method.getDeclareType(), descriptor.getType().getArgumentTypes()));
+        } else {
+            mhMember = classImplBuilder.defineStaticMethodHandle(method.getInvokerName(), null, descriptor.getType());
+            initStaticMethodHandle(classImplBuilder.getClinit(), mhMember, loadClass(method.getDeclareType()), null, descriptor.getType(), false);
+        }
 
         classImplBuilder.defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
                 .intercept(mhMember.invokeStatic(Args.loadArgs()).thenReturn());
@@ -53,11 +57,6 @@ public class Constructor extends Invoker<ConstructorRef> {
         return methodBody.newLocalVar(descriptor.getReturnType(), null, invoker);
     }
 
-    @Override
-    protected void mhReassign(MethodBody methodBody, ClassTypeMember lookupClass, MethodHandleMember mhMember, VarInst objVar) {
-        throw new RuntimeException("not support runtime constructor");
-    }
-
     @Override
     protected void initStaticMethodHandle(MethodBody clinit, MethodHandleMember mhMember, ClassLoadAction lookupClass, String args0, Type methodType, boolean args1) {
         MethodInvokeAction findConstructor = new MethodInvokeAction(MethodDescriptor.LOOKUP_FINDCONSTRUCTOR)
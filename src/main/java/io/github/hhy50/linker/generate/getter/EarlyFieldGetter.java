@@ -3,12 +3,13 @@ package io.github.hhy50.linker.generate.getter;
 import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.field.EarlyFieldRef;
 import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.exceptions.ClassBuildException;
 import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
 import io.github.hhy50.linker.generate.MethodBody;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
 import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
-import org.objectweb.asm.Opcodes;
+import io.github.hhy50.linker.runtime.LazyHandles;
 import org.objectweb.asm.Type;
 
 
@@ -17,6 +18,16 @@ import org.objectweb.asm.Type;
  */
 public class EarlyFieldGetter extends Getter<EarlyFieldRef> {
 
+    /**
+     * 字段可以访问时是否直接GETFIELD
+     */
+    protected final boolean directAccess;
+
+    /**
+     * 加载当前字段的值
+     */
+    private Action value;
+
     /**
      * Instantiates a new Early field getter.
      *
@@ -24,7 +35,19 @@ public class EarlyFieldGetter extends Getter<EarlyFieldRef> {
      * @param fieldRef  the field ref
      */
     public EarlyFieldGetter(String implClass, EarlyFieldRef fieldRef) {
+        this(implClass, fieldRef, true);
+    }
+
+    /**
+     * Instantiates a new Early field getter.
+     *
+     * @param implClass    the impl class
+     * @param fieldRef     the field ref
+     * @param directAccess the direct access
+     */
+    public EarlyFieldGetter(String implClass, EarlyFieldRef fieldRef, boolean directAccess) {
         super(implClass, fieldRef);
+        this.directAccess = directAccess;
     }
 
     @Override
@@ -33,19 +56,39 @@ public class EarlyFieldGetter extends Getter<EarlyFieldRef> {
         Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
         getter.define(classImplBuilder);
 
-        MethodBody clinit = classImplBuilder.getClinit();
+        if (directAccess && classImplBuilder.isAccessible(field.getField())) {
+            // public字段直接GETFIELD, 不需要MethodHandle
+            Type owner = field.getDeclaredType();
+            this.value = field.isStatic()
+                    ? FieldAction.ofStatic(owner, field.fieldName, field.getType())
+                    : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> new FieldAction(new TypeCastAction(varInst, owner), owner, field.fieldName, field.getType()));
+            return;
+        }
+        // 定义当前字段的getter mh, 第一次调用时解析或者在clinit中初始化
+        MethodHandleMember mhMember;
+        if (classImplBuilder.isLazyHandles()) {
+            mhMember = classImplBuilder.defineLazyMethodHandle(field.getGetterName(), null, descriptor.getType(),
+                    LazyHandles.getter(field.getDeclaredType(), field.fieldName, field.getType(), field.isStatic()));
+        } else {
+            mhMember = classImplBuilder.defineStaticMethodHandle(field.getGetterName(), null, descriptor.getType());
+            initStaticMethodHandle(classImplBuilder.getClinit(), mhMember, loadClass(field.getDeclaredType()), field.fieldName, field.getType(), field.isStatic());
+        }
 
-        // 定义当前字段的getter mh, init methodHandle
-        MethodHandleMember mhMember = classImplBuilder.defineStaticMethodHandle(field.getGetterName(), null, descriptor.getType());
-        initStaticMethodHandle(clinit, mhMember, loadClass(field.getDeclaredType()), field.fieldName, field.getType(), field.isStatic());
+        this.value = field.isStatic()
+                ? mhMember.invokeStatic()
+                : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> mhMember.invokeInstance(varInst));
+    }
 
-        // 定义当前字段的getter
-        classImplBuilder.defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
-                .intercept((field.isStatic()
-                        ? mhMember.invokeStatic()
-                        : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> mhMember.invokeInstance(varInst)))
-                        .andThen(Actions.areturn(descriptor.getReturnType()))
-                );
+    /**
+     * 在调用方的方法体中展开, 不生成get_辅助方法.
+     * 上一级也是已知字段时会继续展开, 整个链式表达式是一段连续的GETFIELD/MethodHandle调用
+     */
+    @Override
+    public VarInst invoke(MethodBody methodBody) {
+        if (value == null) {
+            throw new ClassBuildException("getter of field '"+field.getFullName()+"' is not defined");
+        }
+        return methodBody.newLocalVar(descriptor.getReturnType(), field.fieldName, value);
     }
 
     @Override
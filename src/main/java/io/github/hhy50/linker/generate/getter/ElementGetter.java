@@ -0,0 +1,144 @@
+package io.github.hhy50.linker.generate.getter;
+
+import io.github.hhy50.linker.asm.AsmUtil;
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.define.field.ElementRef;
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.exceptions.ClassBuildException;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.utils.Args;
+import io.github.hhy50.linker.generate.bytecode.utils.Methods;
+import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.runtime.RuntimeExtension;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The type Element getter.
+ */
+public class ElementGetter extends Getter<ElementRef> {
+
+    /**
+     * The constant LIST_GET.
+     */
+    public static final MethodDescriptor LIST_GET = MethodDescriptor.of(Type.getInternalName(List.class), "get",
+            TypeUtils.getMethodType(Object.class, int.class));
+
+    /**
+     * The constant MAP_GET.
+     */
+    public static final MethodDescriptor MAP_GET = MethodDescriptor.of(Type.getInternalName(Map.class), "get",
+            TypeUtils.getMethodType(Object.class, Object.class));
+
+    /**
+     * 加载当前元素的值
+     */
+    private Action value;
+
+    /**
+     * Instantiates a new Element getter.
+     *
+     * @param implClass the impl class
+     * @param field     the field
+     */
+    public ElementGetter(String implClass, ElementRef field) {
+        super(implClass, field);
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        FieldRef prevField = field.getPrev();
+        Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
+        getter.define(classImplBuilder);
+
+        this.value = ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(this::load);
+    }
+
+    /**
+     * 和{@link EarlyFieldGetter}一样在调用方的方法体中展开
+     */
+    @Override
+    public VarInst invoke(MethodBody methodBody) {
+        if (value == null) {
+            throw new ClassBuildException("getter of element '"+field.getFullName()+"' is not defined");
+        }
+        return methodBody.newLocalVar(descriptor.getReturnType(), field.fieldName, value);
+    }
+
+    private Action load(VarInst owner) {
+        Class<?> ownerClass = field.getOwnerClass();
+        Type rType = descriptor.getReturnType();
+        switch (field.getKind()) {
+            case LENGTH:
+                // 只有早绑定的数组才解析成length, 运行时的length按照普通字段查找
+                return body -> {
+                    new TypeCastAction(owner, arrayType(ownerClass)).apply(body);
+                    body.getWriter().visitInsn(Opcodes.ARRAYLENGTH);
+                };
+            case KEY:
+                Action key = key(field);
+                return cast(ownerClass == null
+                        ? new MethodInvokeAction(RuntimeExtension.GET_VALUE).setArgs(owner, key)
+                        : Methods.invokeInterface(MAP_GET).setInstance(new TypeCastAction(owner, Type.getType(Map.class))).setArgs(key), rType);
+            default:
+                Action index = index(field);
+                if (ownerClass == null) {
+                    return cast(new MethodInvokeAction(field.isPlaceholder() ? RuntimeExtension.GET_ELEMENT_BY_ARG : RuntimeExtension.GET_ELEMENT).setArgs(owner, index), rType);
+                }
+                if (!ownerClass.isArray()) {
+                    return cast(Methods.invokeInterface(LIST_GET).setInstance(new TypeCastAction(owner, Type.getType(List.class))).setArgs(index), rType);
+                }
+                Type arrayType = arrayType(ownerClass);
+                Type elementType = arrayType.getElementType();
+                return body -> {
+                    MethodVisitor mv = body.getWriter();
+                    new TypeCastAction(owner, arrayType).apply(body);
+                    index.apply(body);
+                    mv.visitInsn(elementType.getOpcode(Opcodes.IALOAD));
+                    if (AsmUtil.isObjectType(rType) && !rType.equals(ObjectVar.TYPE)) {
+                        mv.visitTypeInsn(Opcodes.CHECKCAST, rType.getInternalName());
+                    }
+                };
+        }
+    }
+
+    /**
+     * 基本类型的数组使用实际类型, 对象数组统一按照Object[]访问, 元素的类型不一定可以访问
+     */
+    static Type arrayType(Class<?> arrayClass) {
+        Class<?> componentType = arrayClass.getComponentType();
+        return componentType.isPrimitive() ? Type.getType(arrayClass) : Type.getType(Object[].class);
+    }
+
+    /**
+     * 下标, 占位符从调用方的参数中读取
+     *
+     * @param field the field
+     * @return the action
+     */
+    public static Action index(ElementRef field) {
+        return field.isPlaceholder() ? Args.of(field.getArgIndex()) : LdcLoadAction.of(field.getIndex());
+    }
+
+    /**
+     * Map的key, 占位符从调用方的参数中读取
+     *
+     * @param field the field
+     * @return the action
+     */
+    public static Action key(ElementRef field) {
+        return field.isPlaceholder() ? new BoxAction(Args.of(field.getArgIndex())) : LdcLoadAction.of(field.getKey());
+    }
+
+    private static Action cast(MethodInvokeAction action, Type rType) {
+        return rType.equals(ObjectVar.TYPE) ? action : new TypeCastAction(action, rType);
+    }
+}
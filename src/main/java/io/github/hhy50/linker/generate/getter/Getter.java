@@ -4,14 +4,12 @@ import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.generate.MethodBody;
 import io.github.hhy50.linker.generate.MethodHandle;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
-import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.action.Action;
 import io.github.hhy50.linker.generate.bytecode.action.LdcLoadAction;
-import io.github.hhy50.linker.generate.bytecode.action.LoadAction;
 import io.github.hhy50.linker.generate.bytecode.action.MethodInvokeAction;
 import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
-import io.github.hhy50.linker.runtime.Runtime;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
 import io.github.hhy50.linker.util.ClassUtil;
 import org.objectweb.asm.Type;
 
@@ -36,9 +34,9 @@ public abstract class Getter<T extends FieldRef> extends MethodHandle {
      */
     protected MethodDescriptor descriptor;
     /**
-     * The Lookup class.
+     * 计算当前字段lookup class的方法, 只有运行时字段才有
      */
-    protected ClassTypeMember lookupClass;
+    protected Action lookupClass;
 
     /**
      * Instantiates a new Getter.
@@ -55,16 +53,18 @@ public abstract class Getter<T extends FieldRef> extends MethodHandle {
 
     @Override
     public VarInst invoke(MethodBody methodBody) {
-        MethodInvokeAction invoker = new MethodInvokeAction(descriptor)
-                .setInstance(LoadAction.LOAD0);
+        MethodInvokeAction invoker = invokeHelper(methodBody, descriptor);
         return methodBody.newLocalVar(descriptor.getReturnType(), field.fieldName, invoker);
     }
 
-    @Override
-    protected void mhReassign(MethodBody methodBody, ClassTypeMember lookupClass, MethodHandleMember mhMember, VarInst objVar) {
-        MethodInvokeAction findGetter = new MethodInvokeAction(Runtime.FIND_GETTER)
-                .setArgs(lookupClass.getLookup(methodBody), lookupClass, LdcLoadAction.of(field.fieldName));
-        mhMember.store(methodBody, findGetter);
+    /**
+     * 创建运行时成员的解析表
+     *
+     * @return the action
+     */
+    protected Action newMemberTable() {
+        return new MethodInvokeAction(RuntimeMemberTable.GETTER)
+                .setArgs(LdcLoadAction.of(field.fieldName));
     }
 
 
@@ -73,7 +73,7 @@ public abstract class Getter<T extends FieldRef> extends MethodHandle {
      *
      * @return the lookup class
      */
-    public ClassTypeMember getLookupClass() {
+    public Action getLookupClass() {
         return this.lookupClass;
     }
 }
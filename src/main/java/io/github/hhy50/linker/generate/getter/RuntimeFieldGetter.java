@@ -1,19 +1,24 @@
 package io.github.hhy50.linker.generate.getter;
 
 import io.github.hhy50.linker.asm.AsmUtil;
+import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.field.RuntimeFieldRef;
 import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.vars.LocalVarInst;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
-import org.objectweb.asm.Opcodes;
+import io.github.hhy50.linker.util.ClassUtil;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.Type;
 
 /**
  * The type Runtime field getter.
  */
 public class RuntimeFieldGetter extends Getter<RuntimeFieldRef> {
 
+    private final MethodDescriptor lookupDescriptor;
+
     /**
      * Instantiates a new Runtime field getter.
      *
@@ -22,6 +27,8 @@ public class RuntimeFieldGetter extends Getter<RuntimeFieldRef> {
      */
     public RuntimeFieldGetter(String implClass, RuntimeFieldRef field) {
         super(implClass, field);
+        this.lookupDescriptor = MethodDescriptor.of(ClassUtil.className2path(implClass), "lookup_"+field.getUniqueName(),
+                Type.getMethodType(TypeUtils.CLASS_TYPE));
     }
 
     @Override
@@ -30,28 +37,25 @@ public class RuntimeFieldGetter extends Getter<RuntimeFieldRef> {
         Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
         getter.define(classImplBuilder);
 
-        // 保存当前lookup类型
-        this.lookupClass = classImplBuilder.defineLookupClass(field.getUniqueName());
-        MethodHandleMember mhMember = classImplBuilder.defineMethodHandle(field.getGetterName(), descriptor.getType());
-
+        // 下一级字段的接收者为null时才会调用, 重新计算当前字段的lookup class
         classImplBuilder
-                .defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
+                .defineHelperMethod(lookupDescriptor)
                 .intercept(body -> {
                     VarInst objVar = getter.invoke(body);
+                    lookupClass(body, objVar, getter, prevField.fieldName).loadToStack();
+                    AsmUtil.areturn(body.getWriter(), TypeUtils.CLASS_TYPE);
+                });
+        this.lookupClass = body -> invokeHelper(body, lookupDescriptor).apply(body);
 
-                    checkLookClass(body, lookupClass, objVar, getter);
-                    ClassTypeMember prevLookupClass = getter.getLookupClass();
-                    if (prevLookupClass != null) {
-                        staticCheckClass(body, lookupClass, prevField.fieldName, prevLookupClass);
-                    }
-                    checkMethodHandle(body, lookupClass, mhMember, objVar);
+        classImplBuilder
+                .defineHelperMethod(descriptor)
+                .intercept(body -> {
+                    VarInst objVar = getter.invoke(body);
+                    LocalVarInst lookupClass = lookupClass(body, objVar, getter, prevField.fieldName);
+                    MethodHandleMember mhMember = classImplBuilder.defineInlineCache(field.getGetterName(), descriptor.getType(), lookupClass, newMemberTable());
 
                     // mh.invoke(obj)
-                    if (field.isDesignateStatic()) {
-                        body.append(field.isStatic() ? mhMember.invokeStatic() : mhMember.invokeInstance(objVar));
-                    } else {
-                        body.append(mhMember.invoke(objVar));
-                    }
+                    body.append(mhMember.invoke(objVar));
                     AsmUtil.areturn(body.getWriter(), descriptor.getReturnType());
                 });
     }
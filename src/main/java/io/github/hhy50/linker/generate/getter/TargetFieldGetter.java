@@ -38,7 +38,7 @@ public class TargetFieldGetter extends Getter<EarlyFieldRef> {
 
     @Override
     protected void define0(InvokeClassImplBuilder classImplBuilder) {
-        if (AnnotationUtils.isRuntime(classImplBuilder.getDefineClass())) {
+        if (AnnotationUtils.isRuntime(classImplBuilder.getDefineClass()) && field.getClassType() == Object.class) {
             this.targetClass = classImplBuilder.defineLookupClass("target");
             classImplBuilder.defineConstruct(Opcodes.ACC_PUBLIC, Object.class, Class.class)
                     .intercept(Methods.invokeSuper(MethodDescriptor.ofConstructor(Object.class)).setArgs(Args.of(0))
@@ -52,7 +52,9 @@ public class TargetFieldGetter extends Getter<EarlyFieldRef> {
 
     @Override
     public VarInst invoke(MethodBody methodBody) {
-        return methodBody.newLocalVar(ObjectVar.TYPE, field.fieldName, this.targetObj);
+        // 访问器的目标对象是方法的第一个参数
+        VarInst receiver = methodBody.getReceiverArg();
+        return methodBody.newLocalVar(ObjectVar.TYPE, field.fieldName, receiver != null ? receiver : this.targetObj);
     }
 
     /**
@@ -9,13 +9,15 @@ import io.github.hhy50.linker.generate.MethodBody;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
 import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.utils.Args;
+import io.github.hhy50.linker.generate.bytecode.utils.Methods;
 import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.runtime.LazyHandles;
 import io.github.hhy50.linker.util.TypeUtils;
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 
 /**
@@ -28,6 +30,11 @@ public class EarlyMethodInvoker extends Invoker<EarlyMethodRef> {
      */
     protected boolean generic;
 
+    /**
+     * 方法可以访问时是否直接INVOKEVIRTUAL
+     */
+    protected final boolean directAccess;
+
     /**
      * Instantiates a new Early method invoker.
      *
@@ -35,8 +42,20 @@ public class EarlyMethodInvoker extends Invoker<EarlyMethodRef> {
      * @param methodRef the method ref
      */
     public EarlyMethodInvoker(String implClass, EarlyMethodRef methodRef) {
+        this(implClass, methodRef, true);
+    }
+
+    /**
+     * Instantiates a new Early method invoker.
+     *
+     * @param implClass    the impl class
+     * @param methodRef    the method ref
+     * @param directAccess the direct access
+     */
+    public EarlyMethodInvoker(String implClass, EarlyMethodRef methodRef, boolean directAccess) {
         super(implClass, methodRef, methodRef.isInvisible() ? genericType(methodRef.getMethodType()) : methodRef.getMethodType());
         this.generic = methodRef.isInvisible();
+        this.directAccess = directAccess;
     }
 
     @Override
@@ -45,15 +64,34 @@ public class EarlyMethodInvoker extends Invoker<EarlyMethodRef> {
         Getter<?> getter = classImplBuilder.getGetter(owner.getUniqueName());
         getter.define(classImplBuilder);
 
-        MethodBody clinit = classImplBuilder.getClinit();
-
+        if (isDirectAccess(classImplBuilder)) {
+            // public方法直接INVOKEVIRTUAL/INVOKEINTERFACE, 不需要MethodHandle
+            Method reflectMethod = method.getMethod();
+            MethodDescriptor md = MethodDescriptor.of(reflectMethod);
+            Type declareType = method.getDeclareType();
+            classImplBuilder.defineHelperMethod(descriptor)
+                    .intercept((method.isStatic()
+                            ? Methods.invoke(md).setArgs(Args.loadArgs())
+                            : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> (reflectMethod.getDeclaringClass().isInterface() ? Methods.invokeInterface(md) : Methods.invoke(md))
+                            .setInstance(new TypeCastAction(varInst, declareType))
+                            .setArgs(Args.loadArgs())))
+                            .andThen(Actions.areturn(descriptor.getReturnType()))
+                    );
+            return;
+        }
         // init methodHandle
-        MethodHandleMember mhMember = classImplBuilder.defineStaticMethodHandle(method.getInvokerName(), method.getDeclareType(), descriptor.getType());
-        initStaticMethodHandle(clinit, mhMember, loadClass(method.getDeclareType()), method.getName(), method.getMethodType(), method.isStatic());
+        MethodHandleMember mhMember;
+        if (classImplBuilder.isLazyHandles()) {
+            mhMember = classImplBuilder.defineLazyMethodHandle(method.getInvokerName(), method.getDeclareType(), descriptor.getType(),
+                    LazyHandles.method(method.getDeclareType(), method.getName(), method.getMethodType(), method.isStatic(), method.getSuperClass()));
+        } else {
+            mhMember = classImplBuilder.defineStaticMethodHandle(method.getInvokerName(), method.getDeclareType(), descriptor.getType());
+            initStaticMethodHandle(classImplBuilder.getClinit(), mhMember, loadClass(method.getDeclareType()), method.getName(), method.getMethodType(), method.isStatic());
+        }
         mhMember.setInvokeExact(!this.generic);
 
         // 定义当前方法的invoker
-        classImplBuilder.defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
+        classImplBuilder.defineHelperMethod(descriptor)
                 .intercept((method.isStatic()
                         ? mhMember.invokeStatic(Args.loadArgs())
                         : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> mhMember.invokeInstance(varInst, Args.loadArgs())))
@@ -61,6 +99,15 @@ public class EarlyMethodInvoker extends Invoker<EarlyMethodRef> {
                 );
     }
 
+    /**
+     * invokeSuper和接口的静态方法仍然使用MethodHandle
+     */
+    private boolean isDirectAccess(InvokeClassImplBuilder classImplBuilder) {
+        Method reflectMethod = method.getMethod();
+        return directAccess && !generic && method.getSuperClass() == null && classImplBuilder.isAccessible(reflectMethod)
+                && !(method.isStatic() && reflectMethod.getDeclaringClass().isInterface());
+    }
+
     @Override
     protected void initStaticMethodHandle(MethodBody clinit, MethodHandleMember mhMember, ClassLoadAction lookupClass, String fieldName, Type methodType, boolean isStatic) {
         String superClass = this.method.getSuperClass();
@@ -4,11 +4,9 @@ import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.method.MethodRef;
 import io.github.hhy50.linker.generate.MethodBody;
 import io.github.hhy50.linker.generate.MethodHandle;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
-import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
 import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
-import io.github.hhy50.linker.runtime.Runtime;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
 import io.github.hhy50.linker.util.ClassUtil;
 import io.github.hhy50.linker.util.TypeUtils;
 import org.objectweb.asm.Type;
@@ -51,9 +49,7 @@ public abstract class Invoker<T extends MethodRef> extends MethodHandle {
 
     @Override
     public VarInst invoke(MethodBody methodBody) {
-        MethodInvokeAction invoker = new MethodInvokeAction(descriptor)
-                .setInstance(LoadAction.LOAD0)
-                .setArgs(methodBody.getArgs());
+        MethodInvokeAction invoker = invokeHelper(methodBody, descriptor, methodBody.getArgs());
 
         Type rType = descriptor.getReturnType();
         if (rType.getSort() == Type.VOID) {
@@ -64,16 +60,19 @@ public abstract class Invoker<T extends MethodRef> extends MethodHandle {
         }
     }
 
-    @Override
-    protected void mhReassign(MethodBody methodBody, ClassTypeMember lookupClass, MethodHandleMember mhMember, VarInst objVar) {
+    /**
+     * 创建运行时成员的解析表
+     *
+     * @return the action
+     */
+    protected Action newMemberTable() {
         Class<Action> __ = Action.class;
         Action superClassLoad = Optional.ofNullable(method.getSuperClass())
                 .map(LdcLoadAction::of)
                 .map(__::cast)
                 .orElseGet(Actions::loadNull);
-        MethodInvokeAction fineMethod = new MethodInvokeAction(Runtime.FIND_METHOD)
-                .setArgs(lookupClass.getLookup(methodBody), lookupClass,
-                        LdcLoadAction.of(method.getName()),
+        return new MethodInvokeAction(RuntimeMemberTable.METHOD)
+                .setArgs(LdcLoadAction.of(method.getName()),
                         superClassLoad,
                         Actions.asArray(TypeUtils.STRING_TYPE, Arrays.stream(method.getArgsType())
                                 .map(Type::getClassName).map(LdcLoadAction::of).toArray(Action[]::new))
@@ -82,6 +81,5 @@ public abstract class Invoker<T extends MethodRef> extends MethodHandle {
 //                                IntStream.range(0, methodBody.getArgs().length)
 //                                        .mapToObj(Args::of).map(BoxAction::new).toArray(Action[]::new))
                 );
-        mhMember.store(methodBody, fineMethod);
     }
 }
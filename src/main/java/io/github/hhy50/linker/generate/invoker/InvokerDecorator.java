@@ -48,7 +48,7 @@ public class InvokerDecorator extends AbstractDecorator {
         MethodRef methodRef = methodDefine.methodRef;
         Type[] argsType = methodRef.getArgsType();
 
-        typecastArgs(methodBody, methodBody.getArgs(), methodDefine.method.getParameterTypes(), argsType);
+        typecastArgs(methodBody, methodBody.getArgs(), methodDefine.getParameterTypes(), argsType);
         VarInst result = realInvoker.invoke(methodBody);
 
         Class<?> rClassType = methodDefine.method.getReturnType();
@@ -4,12 +4,11 @@ import io.github.hhy50.linker.asm.AsmUtil;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.method.RuntimeMethodRef;
 import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
 import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.generate.bytecode.vars.LocalVarInst;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import io.github.hhy50.linker.generate.getter.Getter;
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
 
@@ -33,28 +32,17 @@ public class RuntimeMethodInvoker extends Invoker<RuntimeMethodRef> {
         FieldRef owner = method.getOwner();
         Getter<?> ownerGetter = classImplBuilder.defineGetter(owner.getUniqueName(), owner);
         ownerGetter.define(classImplBuilder);
-        
-        ClassTypeMember lookupClass = classImplBuilder.defineLookupClass(method.getFullName());
-        MethodHandleMember mhMember = classImplBuilder.defineMethodHandle(method.getInvokerName(), descriptor.getType());
 
         classImplBuilder
-                .defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
+                .defineHelperMethod(descriptor)
                 .intercept(body -> {
                     VarInst objVar = ownerGetter.invoke(body);
 
-                    checkLookClass(body, lookupClass, objVar, ownerGetter);
-                    ClassTypeMember prevLookupClass = ownerGetter.getLookupClass();
-                    if (prevLookupClass != null) {
-                        staticCheckClass(body, lookupClass, owner.fieldName, prevLookupClass);
-                    }
-                    checkMethodHandle(body, lookupClass, mhMember, objVar);
-
-                    // mh.invoke(obj)
-                    if (method.isDesignateStatic()) {
-                        body.append(method.isStatic() ? mhMember.invokeStatic(body.getArgs()) : mhMember.invokeInstance(objVar, body.getArgs()));
-                    } else {
-                        body.append(mhMember.invokeOfNull(objVar, body.getArgs()));
-                    }
+                    LocalVarInst lookupClass = lookupClass(body, objVar, ownerGetter, owner.fieldName);
+                    MethodHandleMember mhMember = classImplBuilder.defineInlineCache(method.getInvokerName(), descriptor.getType(), lookupClass, newMemberTable());
+
+                    // mh.invoke(obj, args)
+                    body.append(mhMember.invoke(objVar, body.getArgs()));
                     AsmUtil.areturn(body.getWriter(), descriptor.getReturnType());
                 });
     }
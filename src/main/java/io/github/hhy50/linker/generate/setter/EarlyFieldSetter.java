@@ -1,5 +1,6 @@
 package io.github.hhy50.linker.generate.setter;
 
+import io.github.hhy50.linker.asm.AsmUtil;
 import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.field.EarlyFieldRef;
 import io.github.hhy50.linker.define.field.FieldRef;
@@ -10,14 +11,22 @@ import io.github.hhy50.linker.generate.bytecode.action.*;
 import io.github.hhy50.linker.generate.bytecode.utils.Args;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import io.github.hhy50.linker.generate.getter.Getter;
-import org.objectweb.asm.Opcodes;
+import io.github.hhy50.linker.runtime.LazyHandles;
 import org.objectweb.asm.Type;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
 /**
  * The type Early field setter.
  */
 public class EarlyFieldSetter extends Setter<EarlyFieldRef> {
 
+    /**
+     * 字段可以访问时是否直接PUTFIELD
+     */
+    protected final boolean directAccess;
+
     /**
      * Instantiates a new Early field setter.
      *
@@ -25,7 +34,19 @@ public class EarlyFieldSetter extends Setter<EarlyFieldRef> {
      * @param field     the field
      */
     public EarlyFieldSetter(String implClass, EarlyFieldRef field) {
+        this(implClass, field, true);
+    }
+
+    /**
+     * Instantiates a new Early field setter.
+     *
+     * @param implClass    the impl class
+     * @param field        the field
+     * @param directAccess the direct access
+     */
+    public EarlyFieldSetter(String implClass, EarlyFieldRef field, boolean directAccess) {
         super(implClass, field);
+        this.directAccess = directAccess;
     }
 
     @Override
@@ -34,14 +55,30 @@ public class EarlyFieldSetter extends Setter<EarlyFieldRef> {
         Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
         getter.define(classImplBuilder);
 
-        MethodBody clinit = classImplBuilder.getClinit();
-
+        if (isDirectAccess(classImplBuilder)) {
+            // public字段直接PUTFIELD, 不需要MethodHandle
+            Type owner = field.getDeclaredType();
+            Action value = AsmUtil.isPrimitiveType(field.getType()) ? Args.of(0) : new TypeCastAction(Args.of(0), field.getType());
+            classImplBuilder.defineHelperMethod(descriptor)
+                    .intercept((field.isStatic()
+                            ? FieldAction.ofStatic(owner, field.fieldName, field.getType()).store(value)
+                            : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> new FieldAction(new TypeCastAction(varInst, owner), owner, field.fieldName, field.getType()).store(value)))
+                            .andThen(Actions.vreturn())
+                    );
+            return;
+        }
         // init methodHandle
-        MethodHandleMember mhMember = classImplBuilder.defineStaticMethodHandle(field.getSetterName(), null, descriptor.getType());
-        initStaticMethodHandle(clinit, mhMember, loadClass(field.getDeclaredType()), field.fieldName, field.getType(), field.isStatic());
+        MethodHandleMember mhMember;
+        if (classImplBuilder.isLazyHandles()) {
+            mhMember = classImplBuilder.defineLazyMethodHandle(field.getSetterName(), null, descriptor.getType(),
+                    LazyHandles.setter(field.getDeclaredType(), field.fieldName, field.getType(), field.isStatic()));
+        } else {
+            mhMember = classImplBuilder.defineStaticMethodHandle(field.getSetterName(), null, descriptor.getType());
+            initStaticMethodHandle(classImplBuilder.getClinit(), mhMember, loadClass(field.getDeclaredType()), field.fieldName, field.getType(), field.isStatic());
+        }
 
         // 定义当前字段的 setter
-        classImplBuilder.defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
+        classImplBuilder.defineHelperMethod(descriptor)
                 .intercept((field.isStatic()
                         ? mhMember.invokeStatic(Args.loadArgs())
                         : ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(varInst -> mhMember.invokeInstance(varInst, Args.loadArgs())))
@@ -49,6 +86,15 @@ public class EarlyFieldSetter extends Setter<EarlyFieldRef> {
                 );
     }
 
+    /**
+     * final字段仍然使用MethodHandle, 参数需要强转为字段类型, 字段类型也要可以访问
+     */
+    private boolean isDirectAccess(InvokeClassImplBuilder classImplBuilder) {
+        Field reflectField = field.getField();
+        return directAccess && classImplBuilder.isAccessible(reflectField) && !Modifier.isFinal(reflectField.getModifiers())
+                && classImplBuilder.isAccessible(reflectField.getType());
+    }
+
     @Override
     protected void initStaticMethodHandle(MethodBody clinit, MethodHandleMember mhMember, ClassLoadAction lookupClass, String fieldName, Type fieldType, boolean isStatic) {
         mhMember.store(clinit, new MethodInvokeAction(isStatic ? MethodDescriptor.LOOKUP_FINDSTATICSETTER : MethodDescriptor.LOOKUP_FINDSETTER)
@@ -0,0 +1,122 @@
+package io.github.hhy50.linker.generate.setter;
+
+import io.github.hhy50.linker.asm.AsmUtil;
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.define.field.ElementRef;
+import io.github.hhy50.linker.define.field.FieldRef;
+import io.github.hhy50.linker.exceptions.ClassBuildException;
+import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
+import io.github.hhy50.linker.generate.MethodBody;
+import io.github.hhy50.linker.generate.bytecode.action.*;
+import io.github.hhy50.linker.generate.bytecode.utils.Args;
+import io.github.hhy50.linker.generate.bytecode.utils.Methods;
+import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
+import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
+import io.github.hhy50.linker.generate.getter.ElementGetter;
+import io.github.hhy50.linker.generate.getter.Getter;
+import io.github.hhy50.linker.runtime.RuntimeExtension;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The type Element setter.
+ */
+public class ElementSetter extends Setter<ElementRef> {
+
+    /**
+     * The constant LIST_SET.
+     */
+    public static final MethodDescriptor LIST_SET = MethodDescriptor.of(Type.getInternalName(List.class), "set",
+            TypeUtils.getMethodType(Object.class, int.class, Object.class));
+
+    /**
+     * The constant MAP_PUT.
+     */
+    public static final MethodDescriptor MAP_PUT = MethodDescriptor.of(Type.getInternalName(Map.class), "put",
+            TypeUtils.getMethodType(Object.class, Object.class, Object.class));
+
+    /**
+     * 设置当前元素的值
+     */
+    private Action store;
+
+    /**
+     * Instantiates a new Element setter.
+     *
+     * @param implClass the impl class
+     * @param field     the field
+     */
+    public ElementSetter(String implClass, ElementRef field) {
+        super(implClass, field);
+    }
+
+    @Override
+    protected void define0(InvokeClassImplBuilder classImplBuilder) {
+        FieldRef prevField = field.getPrev();
+        Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
+        getter.define(classImplBuilder);
+
+        this.store = ChainAction.of(getter::invoke).peek(VarInst::checkNullPointer).then(this::storeLastArg);
+    }
+
+    /**
+     * 和{@link ElementGetter}一样在调用方的方法体中展开, 下标的占位符在前面, 最后一个参数是要设置的值
+     */
+    @Override
+    public VarInst invoke(MethodBody methodBody) {
+        if (store == null) {
+            throw new ClassBuildException("setter of element '"+field.getFullName()+"' is not defined");
+        }
+        methodBody.append(store);
+        return null;
+    }
+
+    private Action storeLastArg(VarInst owner) {
+        return body -> {
+            LoadAction value = Args.of(body.getArgs().length-1);
+            store(owner, value).apply(body);
+        };
+    }
+
+    private Action store(VarInst owner, LoadAction value) {
+        Class<?> ownerClass = field.getOwnerClass();
+        if (field.getKind() == ElementRef.Kind.KEY) {
+            Action key = ElementGetter.key(field);
+            return ownerClass == null
+                    ? new MethodInvokeAction(RuntimeExtension.PUT_VALUE).setArgs(owner, key, new BoxAction(value))
+                    : pop(Methods.invokeInterface(MAP_PUT).setInstance(new TypeCastAction(owner, Type.getType(Map.class))).setArgs(key, new BoxAction(value)));
+        }
+        Action index = ElementGetter.index(field);
+        if (ownerClass == null) {
+            return new MethodInvokeAction(field.isPlaceholder() ? RuntimeExtension.SET_ELEMENT_BY_ARG : RuntimeExtension.SET_ELEMENT).setArgs(owner, index, new BoxAction(value));
+        }
+        if (!ownerClass.isArray()) {
+            return pop(Methods.invokeInterface(LIST_SET).setInstance(new TypeCastAction(owner, Type.getType(List.class))).setArgs(index, new BoxAction(value)));
+        }
+        Class<?> componentType = ownerClass.getComponentType();
+        Type arrayType = componentType.isPrimitive() ? Type.getType(ownerClass) : Type.getType(Object[].class);
+        Type fieldType = field.getType();
+        return body -> {
+            MethodVisitor mv = body.getWriter();
+            new TypeCastAction(owner, arrayType).apply(body);
+            index.apply(body);
+            value.apply(body);
+            if (AsmUtil.isObjectType(fieldType) && !field.isInvisible() && !fieldType.equals(ObjectVar.TYPE)) {
+                mv.visitTypeInsn(Opcodes.CHECKCAST, fieldType.getInternalName());
+            }
+            mv.visitInsn(arrayType.getElementType().getOpcode(Opcodes.IASTORE));
+        };
+    }
+
+    private static Action pop(Action action) {
+        return body -> {
+            action.apply(body);
+            body.getWriter().visitInsn(Opcodes.POP);
+        };
+    }
+}
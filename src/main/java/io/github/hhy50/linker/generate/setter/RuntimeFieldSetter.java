@@ -4,11 +4,10 @@ import io.github.hhy50.linker.asm.AsmUtil;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.define.field.RuntimeFieldRef;
 import io.github.hhy50.linker.generate.InvokeClassImplBuilder;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
 import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.vars.LocalVarInst;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
 import io.github.hhy50.linker.generate.getter.Getter;
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
 
@@ -33,26 +32,16 @@ public class RuntimeFieldSetter extends Setter<RuntimeFieldRef> {
         Getter<?> getter = classImplBuilder.getGetter(prevField.getUniqueName());
         getter.define(classImplBuilder);
 
-        ClassTypeMember lookupClass = classImplBuilder.defineLookupClass(field.getUniqueName());
-        MethodHandleMember mhMember = classImplBuilder.defineMethodHandle(field.getSetterName(), descriptor.getType());
         classImplBuilder
-                .defineMethod(Opcodes.ACC_PUBLIC, descriptor.getMethodName(), descriptor.getType(), null)
+                .defineHelperMethod(descriptor)
                 .intercept(body -> {
                     VarInst objVar = getter.invoke(body);
 
-                    checkLookClass(body, lookupClass, objVar, getter);
-                    ClassTypeMember prevLookupClass = getter.getLookupClass();
-                    if (prevLookupClass != null) {
-                        staticCheckClass(body, lookupClass, prevField.fieldName, prevLookupClass);
-                    }
-                    checkMethodHandle(body, lookupClass, mhMember, objVar);
+                    LocalVarInst lookupClass = lookupClass(body, objVar, getter, prevField.fieldName);
+                    MethodHandleMember mhMember = classImplBuilder.defineInlineCache(field.getSetterName(), descriptor.getType(), lookupClass, newMemberTable());
 
                     // mh.invoke(obj, fieldValue)
-                    if (field.isDesignateStatic()) {
-                        body.append(field.isStatic() ? mhMember.invokeStatic() : mhMember.invokeInstance(objVar));
-                    } else {
-                        body.append(mhMember.invoke(objVar, body.getArgs()));
-                    }
+                    body.append(mhMember.invoke(objVar, body.getArgs()));
                     AsmUtil.areturn(body.getWriter(), Type.VOID_TYPE);
                 });
     }
@@ -5,14 +5,12 @@ import io.github.hhy50.linker.define.MethodDescriptor;
 import io.github.hhy50.linker.define.field.FieldRef;
 import io.github.hhy50.linker.generate.MethodBody;
 import io.github.hhy50.linker.generate.MethodHandle;
-import io.github.hhy50.linker.generate.bytecode.ClassTypeMember;
-import io.github.hhy50.linker.generate.bytecode.MethodHandleMember;
+import io.github.hhy50.linker.generate.bytecode.action.Action;
 import io.github.hhy50.linker.generate.bytecode.action.LdcLoadAction;
-import io.github.hhy50.linker.generate.bytecode.action.LoadAction;
 import io.github.hhy50.linker.generate.bytecode.action.MethodInvokeAction;
 import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
 import io.github.hhy50.linker.generate.bytecode.vars.VarInst;
-import io.github.hhy50.linker.runtime.Runtime;
+import io.github.hhy50.linker.runtime.RuntimeMemberTable;
 import io.github.hhy50.linker.util.ClassUtil;
 import org.objectweb.asm.Type;
 
@@ -46,15 +44,17 @@ public abstract class Setter<T extends FieldRef> extends MethodHandle {
 
     @Override
     public VarInst invoke(MethodBody methodBody) {
-        methodBody.append(new MethodInvokeAction(descriptor)
-                .setInstance(LoadAction.LOAD0)
-                .setArgs(methodBody.getArgs()));
+        methodBody.append(invokeHelper(methodBody, descriptor, methodBody.getArgs()));
         return null;
     }
 
-    @Override
-    protected void mhReassign(MethodBody methodBody, ClassTypeMember lookupClass, MethodHandleMember mhMember, VarInst objVar) {
-        mhMember.store(methodBody, new MethodInvokeAction(Runtime.FIND_SETTER)
-                .setArgs(lookupClass.getLookup(methodBody), lookupClass, LdcLoadAction.of(this.field.fieldName)));
+    /**
+     * 创建运行时成员的解析表
+     *
+     * @return the action
+     */
+    protected Action newMemberTable() {
+        return new MethodInvokeAction(RuntimeMemberTable.SETTER)
+                .setArgs(LdcLoadAction.of(this.field.fieldName));
     }
 }
@@ -39,8 +39,10 @@ public class SetterDecorator extends AbstractDecorator {
 
     @Override
     public VarInst invoke(MethodBody methodBody) {
-        // 方法定义的类型
-        typecastArgs(methodBody, methodBody.getArgs(), methodDefine.method.getParameterTypes(), new Type[]{fieldRef.getType()});
+        // 方法定义的类型, 表达式中有占位符时前面的参数是下标, 最后一个参数是要设置的值
+        Class<?>[] parameterTypes = methodDefine.getParameterTypes();
+        int valueIndex = parameterTypes.length-1;
+        typecastArg(methodBody, valueIndex, parameterTypes[valueIndex], fieldRef.getType());
         setter.invoke(methodBody);
         AsmUtil.areturn(methodBody.getWriter(), Type.VOID_TYPE);
         return null;
@@ -0,0 +1,182 @@
+package io.github.hhy50.linker.runtime;
+
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.define.field.AtomicMode;
+import io.github.hhy50.linker.util.TypeUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 字段原子访问的MethodHandle, JDK9以上由VarHandle转换, JDK8使用Unsafe和字段的偏移量.
+ */
+public class AtomicFieldHandles {
+
+    /**
+     * The constant OWNER.
+     */
+    public static final String OWNER = "io/github/hhy50/linker/runtime/AtomicFieldHandles";
+
+    /**
+     * The constant FIND.
+     */
+    public static final MethodDescriptor FIND = MethodDescriptor.of(OWNER, "find",
+            TypeUtils.getMethodType(MethodHandle.class, MethodHandles.Lookup.class, Class.class, String.class, String.class, Class.class));
+
+    /**
+     * 查找字段的原子访问MethodHandle, 实例字段的第一个参数是Object类型的接收者
+     *
+     * @param lookup    the lookup
+     * @param owner     the declaring class
+     * @param fieldName the field name
+     * @param mode      the {@link AtomicMode} name
+     * @param valueType 调用方使用的字段值类型, 字段类型不可见时是Object
+     * @return the method handle
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static MethodHandle find(MethodHandles.Lookup lookup, Class<?> owner, String fieldName, String mode, Class<?> valueType) throws ReflectiveOperationException {
+        return find(lookup, owner, fieldName, mode, valueType, VarHandleHolder.FIND_VAR_HANDLE == null);
+    }
+
+    /**
+     * 和{@link #find(MethodHandles.Lookup, Class, String, String, Class)}一样, 总是使用Unsafe, JDK8的实现
+     *
+     * @param owner     the declaring class
+     * @param fieldName the field name
+     * @param mode      the {@link AtomicMode} name
+     * @param valueType 调用方使用的字段值类型
+     * @return the method handle
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static MethodHandle findByUnsafe(Class<?> owner, String fieldName, String mode, Class<?> valueType) throws ReflectiveOperationException {
+        return find(null, owner, fieldName, mode, valueType, true);
+    }
+
+    private static MethodHandle find(MethodHandles.Lookup lookup, Class<?> owner, String fieldName, String mode, Class<?> valueType,
+                                     boolean unsafe) throws ReflectiveOperationException {
+        AtomicMode atomicMode = AtomicMode.valueOf(mode);
+        Field field = owner.getDeclaredField(fieldName);
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle mh = unsafe
+                ? fromUnsafe(field, isStatic, atomicMode)
+                : fromVarHandle(lookup, field, isStatic, atomicMode);
+
+        MethodType type = atomicMode.methodType(valueType);
+        return mh.asType(isStatic ? type : type.insertParameterTypes(0, Object.class));
+    }
+
+    private static MethodHandle fromVarHandle(MethodHandles.Lookup lookup, Field field, boolean isStatic, AtomicMode mode) throws ReflectiveOperationException {
+        try {
+            Object varHandle = (isStatic ? VarHandleHolder.FIND_STATIC_VAR_HANDLE : VarHandleHolder.FIND_VAR_HANDLE)
+                    .invoke(lookup, field.getDeclaringClass(), field.getName(), field.getType());
+            return (MethodHandle) VarHandleHolder.TO_METHOD_HANDLE.invoke(varHandle, VarHandleHolder.accessMode(mode));
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle fromUnsafe(Field field, boolean isStatic, AtomicMode mode) throws ReflectiveOperationException {
+        Class<?> fieldType = field.getType();
+        Class<?> type = fieldType.isPrimitive() ? fieldType : Object.class;
+        String suffix = fieldType.isPrimitive() ? Character.toUpperCase(type.getName().charAt(0))+type.getName().substring(1) : "Object";
+        MethodHandle mh;
+        switch (mode) {
+            case COMPARE_AND_SET:
+                mh = UnsafeHolder.method("compareAndSwap"+suffix, MethodType.methodType(boolean.class, Object.class, long.class, type, type));
+                break;
+            case GET_AND_ADD:
+                mh = UnsafeHolder.method("getAndAdd"+suffix, MethodType.methodType(type, Object.class, long.class, type));
+                break;
+            case GET_VOLATILE:
+                mh = UnsafeHolder.method("get"+suffix+"Volatile", MethodType.methodType(type, Object.class, long.class));
+                break;
+            default:
+                // 只有int, long和引用类型有putOrdered, 其他类型使用更强的volatile写
+                boolean ordered = type == int.class || type == long.class || type == Object.class;
+                mh = UnsafeHolder.method(ordered ? "putOrdered"+suffix : "put"+suffix+"Volatile", MethodType.methodType(void.class, Object.class, long.class, type));
+        }
+        try {
+            if (isStatic) {
+                // 静态字段的base在类初始化之后才有效
+                Class<?> declaringClass = field.getDeclaringClass();
+                Class.forName(declaringClass.getName(), true, declaringClass.getClassLoader());
+                return MethodHandles.insertArguments(mh, 0, UnsafeHolder.STATIC_FIELD_BASE.invoke(field), UnsafeHolder.STATIC_FIELD_OFFSET.invoke(field));
+            }
+            return MethodHandles.insertArguments(mh, 1, UnsafeHolder.OBJECT_FIELD_OFFSET.invoke(field));
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Lookup.findVarHandle, VarHandle.toMethodHandle, JDK8为null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static class VarHandleHolder {
+        static final MethodHandle FIND_VAR_HANDLE;
+        static final MethodHandle FIND_STATIC_VAR_HANDLE;
+        static final MethodHandle TO_METHOD_HANDLE;
+        static final Class<? extends Enum> ACCESS_MODE;
+
+        static {
+            MethodHandle findVarHandle = null, findStaticVarHandle = null, toMethodHandle = null;
+            Class<? extends Enum> accessMode = null;
+            try {
+                Class<?> varHandle = Class.forName("java.lang.invoke.VarHandle");
+                accessMode = (Class<? extends Enum>) Class.forName("java.lang.invoke.VarHandle$AccessMode");
+                MethodType findType = MethodType.methodType(varHandle, Class.class, String.class, Class.class);
+                findVarHandle = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class, "findVarHandle", findType);
+                findStaticVarHandle = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class, "findStaticVarHandle", findType);
+                toMethodHandle = MethodHandles.publicLookup().findVirtual(varHandle, "toMethodHandle", MethodType.methodType(MethodHandle.class, accessMode));
+            } catch (ReflectiveOperationException e) {
+                // JDK8
+                findVarHandle = null;
+            }
+            FIND_VAR_HANDLE = findVarHandle;
+            FIND_STATIC_VAR_HANDLE = findStaticVarHandle;
+            TO_METHOD_HANDLE = toMethodHandle;
+            ACCESS_MODE = accessMode;
+        }
+
+        static Object accessMode(AtomicMode mode) {
+            return Enum.valueOf(ACCESS_MODE, mode.name());
+        }
+    }
+
+    /**
+     * sun.misc.Unsafe只在这里通过反射访问, 只有JDK8没有VarHandle时才会初始化.
+     * 编译时不直接引用Unsafe, javac对内部API的警告不能通过@SuppressWarnings关闭
+     */
+    private static class UnsafeHolder {
+        static final Class<?> UNSAFE_CLASS;
+        static final Object UNSAFE;
+        static final MethodHandle STATIC_FIELD_BASE;
+        static final MethodHandle STATIC_FIELD_OFFSET;
+        static final MethodHandle OBJECT_FIELD_OFFSET;
+
+        static {
+            try {
+                UNSAFE_CLASS = Class.forName("sun.misc.Unsafe");
+                Field field = UNSAFE_CLASS.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                UNSAFE = field.get(null);
+                STATIC_FIELD_BASE = method("staticFieldBase", MethodType.methodType(Object.class, Field.class));
+                STATIC_FIELD_OFFSET = method("staticFieldOffset", MethodType.methodType(long.class, Field.class));
+                OBJECT_FIELD_OFFSET = method("objectFieldOffset", MethodType.methodType(long.class, Field.class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        static MethodHandle method(String name, MethodType type) throws ReflectiveOperationException {
+            return MethodHandles.publicLookup().findVirtual(UNSAFE_CLASS, name, type).bindTo(UNSAFE);
+        }
+    }
+}
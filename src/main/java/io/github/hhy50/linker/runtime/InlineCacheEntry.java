@@ -0,0 +1,36 @@
+package io.github.hhy50.linker.runtime;
+
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 内联缓存中的一项, 不可变对象, 保证多线程下类型和MethodHandle总是成对出现
+ */
+public final class InlineCacheEntry {
+    /**
+     * The constant TYPE.
+     */
+    public static final Type TYPE = Type.getType(InlineCacheEntry.class);
+
+    /**
+     * The receiver class.
+     */
+    public final Class<?> type;
+
+    /**
+     * The Handle.
+     */
+    public final MethodHandle handle;
+
+    /**
+     * Instantiates a new Inline cache entry.
+     *
+     * @param type   the type
+     * @param handle the handle
+     */
+    public InlineCacheEntry(Class<?> type, MethodHandle handle) {
+        this.type = type;
+        this.handle = handle;
+    }
+}
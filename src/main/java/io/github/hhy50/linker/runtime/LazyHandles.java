@@ -0,0 +1,203 @@
+package io.github.hhy50.linker.runtime;
+
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 已知成员的MethodHandle在第一次调用时解析.
+ * <p>
+ * JDK11以上实现类使用ConstantDynamic(ldc)加载MethodHandle, 只有用到的成员才会解析, 解析之后仍然是JIT的常量,
+ * 单个成员解析失败也不会影响实现类的初始化. JDK8还是在clinit中初始化static final字段, 可以通过-Dlinker.lazy.handles=false关闭
+ */
+public class LazyHandles {
+
+    /**
+     * The constant OWNER.
+     */
+    public static final String OWNER = "io/github/hhy50/linker/runtime/LazyHandles";
+
+    /**
+     * 是否使用ConstantDynamic
+     */
+    public static final boolean ENABLED;
+
+    private static final String MH_DESC = Type.getDescriptor(MethodHandle.class);
+
+    private static final Handle FIND_GETTER = bootstrap("findGetter", String.class, String.class, int.class);
+
+    private static final Handle FIND_SETTER = bootstrap("findSetter", String.class, String.class, int.class);
+
+    private static final Handle FIND_METHOD = bootstrap("findMethod", String.class, String.class, int.class, String.class);
+
+    private static final Handle FIND_CONSTRUCTOR = bootstrap("findConstructor", String.class, String.class);
+
+    static {
+        boolean enabled = !"false".equals(System.getProperty("linker.lazy.handles"));
+        if (enabled) {
+            try {
+                Class.forName("java.lang.invoke.ConstantBootstraps");
+            } catch (ClassNotFoundException e) {
+                enabled = false;
+            }
+        }
+        ENABLED = enabled;
+    }
+
+    /**
+     * 字段的getter
+     *
+     * @param owner     the declared type
+     * @param fieldName the field name
+     * @param fieldType the field type
+     * @param isStatic  the is static
+     * @return the constant dynamic
+     */
+    public static ConstantDynamic getter(Type owner, String fieldName, Type fieldType, boolean isStatic) {
+        return new ConstantDynamic(fieldName, MH_DESC, FIND_GETTER, owner.getClassName(), fieldType.getDescriptor(), isStatic ? 1 : 0);
+    }
+
+    /**
+     * 字段的setter
+     *
+     * @param owner     the declared type
+     * @param fieldName the field name
+     * @param fieldType the field type
+     * @param isStatic  the is static
+     * @return the constant dynamic
+     */
+    public static ConstantDynamic setter(Type owner, String fieldName, Type fieldType, boolean isStatic) {
+        return new ConstantDynamic(fieldName, MH_DESC, FIND_SETTER, owner.getClassName(), fieldType.getDescriptor(), isStatic ? 1 : 0);
+    }
+
+    /**
+     * 方法, superClass不为空时调用父类的方法
+     *
+     * @param owner      the declared type
+     * @param methodName the method name
+     * @param methodType the method type
+     * @param isStatic   the is static
+     * @param superClass the super class, nullable
+     * @return the constant dynamic
+     */
+    public static ConstantDynamic method(Type owner, String methodName, Type methodType, boolean isStatic, String superClass) {
+        return new ConstantDynamic(methodName, MH_DESC, FIND_METHOD, owner.getClassName(), methodType.getDescriptor(), isStatic ? 1 : 0,
+                superClass == null ? "" : superClass);
+    }
+
+    /**
+     * 构造器
+     *
+     * @param owner    the declared type
+     * @param argsType the args type
+     * @return the constant dynamic
+     */
+    public static ConstantDynamic constructor(Type owner, Type[] argsType) {
+        return new ConstantDynamic("new", MH_DESC, FIND_CONSTRUCTOR, owner.getClassName(), Type.getMethodDescriptor(Type.VOID_TYPE, argsType));
+    }
+
+    /**
+     * ConstantDynamic的bootstrap, 查找字段的getter
+     *
+     * @param caller    the caller
+     * @param fieldName the field name
+     * @param type      the constant type
+     * @param owner     the declared class name
+     * @param fieldDesc the field descriptor
+     * @param isStatic  the is static
+     * @return the method handle
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static MethodHandle findGetter(MethodHandles.Lookup caller, String fieldName, Class<?> type,
+                                          String owner, String fieldDesc, int isStatic) throws ReflectiveOperationException {
+        ClassLoader cl = caller.lookupClass().getClassLoader();
+        Class<?> ownerClass = Runtime.getClass(cl, owner);
+        Class<?> fieldType = fieldType(fieldDesc, cl);
+        MethodHandles.Lookup lookup = Runtime.lookup(ownerClass);
+        return isStatic != 0 ? lookup.findStaticGetter(ownerClass, fieldName, fieldType) : lookup.findGetter(ownerClass, fieldName, fieldType);
+    }
+
+    /**
+     * ConstantDynamic的bootstrap, 查找字段的setter
+     *
+     * @param caller    the caller
+     * @param fieldName the field name
+     * @param type      the constant type
+     * @param owner     the declared class name
+     * @param fieldDesc the field descriptor
+     * @param isStatic  the is static
+     * @return the method handle
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static MethodHandle findSetter(MethodHandles.Lookup caller, String fieldName, Class<?> type,
+                                          String owner, String fieldDesc, int isStatic) throws ReflectiveOperationException {
+        ClassLoader cl = caller.lookupClass().getClassLoader();
+        Class<?> ownerClass = Runtime.getClass(cl, owner);
+        Class<?> fieldType = fieldType(fieldDesc, cl);
+        MethodHandles.Lookup lookup = Runtime.lookup(ownerClass);
+        return isStatic != 0 ? lookup.findStaticSetter(ownerClass, fieldName, fieldType) : lookup.findSetter(ownerClass, fieldName, fieldType);
+    }
+
+    /**
+     * ConstantDynamic的bootstrap, 查找方法
+     *
+     * @param caller     the caller
+     * @param methodName the method name
+     * @param type       the constant type
+     * @param owner      the declared class name
+     * @param methodDesc the method descriptor
+     * @param isStatic   the is static
+     * @param superClass the super class name, empty if not invoke super
+     * @return the method handle
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static MethodHandle findMethod(MethodHandles.Lookup caller, String methodName, Class<?> type,
+                                          String owner, String methodDesc, int isStatic, String superClass) throws ReflectiveOperationException {
+        ClassLoader cl = caller.lookupClass().getClassLoader();
+        Class<?> ownerClass = Runtime.getClass(cl, owner);
+        MethodType methodType = MethodType.fromMethodDescriptorString(methodDesc, cl);
+        MethodHandles.Lookup lookup = Runtime.lookup(ownerClass);
+        if (superClass.isEmpty()) {
+            return isStatic != 0 ? lookup.findStatic(ownerClass, methodName, methodType) : lookup.findVirtual(ownerClass, methodName, methodType);
+        }
+        Class<?> superType = Runtime.getClass(cl, superClass);
+        return isStatic != 0 ? lookup.findStatic(superType, methodName, methodType) : lookup.findSpecial(superType, methodName, methodType, ownerClass);
+    }
+
+    /**
+     * ConstantDynamic的bootstrap, 查找构造器
+     *
+     * @param caller     the caller
+     * @param name       the name
+     * @param type       the constant type
+     * @param owner      the declared class name
+     * @param methodDesc the constructor descriptor
+     * @return the method handle
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static MethodHandle findConstructor(MethodHandles.Lookup caller, String name, Class<?> type,
+                                               String owner, String methodDesc) throws ReflectiveOperationException {
+        ClassLoader cl = caller.lookupClass().getClassLoader();
+        Class<?> ownerClass = Runtime.getClass(cl, owner);
+        return Runtime.lookup(ownerClass).findConstructor(ownerClass, MethodType.fromMethodDescriptorString(methodDesc, cl));
+    }
+
+    private static Class<?> fieldType(String fieldDesc, ClassLoader cl) {
+        return MethodType.fromMethodDescriptorString("()"+fieldDesc, cl).returnType();
+    }
+
+    private static Handle bootstrap(String name, Class<?>... args) {
+        Class<?>[] argsType = new Class<?>[args.length+3];
+        argsType[0] = MethodHandles.Lookup.class;
+        argsType[1] = String.class;
+        argsType[2] = Class.class;
+        System.arraycopy(args, 0, argsType, 3, args.length);
+        return new Handle(Opcodes.H_INVOKESTATIC, OWNER, name, TypeUtils.getMethodType(MethodHandle.class, argsType).getDescriptor(), false);
+    }
+}
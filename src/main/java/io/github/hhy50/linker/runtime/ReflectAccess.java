@@ -0,0 +1,129 @@
+package io.github.hhy50.linker.runtime;
+
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.util.TypeUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * reflect backend使用的反射调用, Field和Method在实现类初始化时查找并缓存在静态字段中.
+ */
+public class ReflectAccess {
+
+    /**
+     * The constant OWNER.
+     */
+    public static final String OWNER = "io/github/hhy50/linker/runtime/ReflectAccess";
+
+    /**
+     * The constant FIELD_TYPE.
+     */
+    public static final org.objectweb.asm.Type FIELD_TYPE = org.objectweb.asm.Type.getType(Field.class);
+
+    /**
+     * The constant METHOD_TYPE.
+     */
+    public static final org.objectweb.asm.Type METHOD_TYPE = org.objectweb.asm.Type.getType(Method.class);
+
+    /**
+     * The constant FIND_FIELD.
+     */
+    public static final MethodDescriptor FIND_FIELD = MethodDescriptor.of(OWNER, "findField",
+            TypeUtils.getMethodType(Field.class, Class.class, String.class));
+
+    /**
+     * The constant FIND_METHOD.
+     */
+    public static final MethodDescriptor FIND_METHOD = MethodDescriptor.of(OWNER, "findMethod",
+            TypeUtils.getMethodType(Method.class, Class.class, String.class, Class[].class));
+
+    /**
+     * The constant GET.
+     */
+    public static final MethodDescriptor GET = MethodDescriptor.of(OWNER, "get",
+            TypeUtils.getMethodType(Object.class, Field.class, Object.class));
+
+    /**
+     * The constant SET.
+     */
+    public static final MethodDescriptor SET = MethodDescriptor.of(OWNER, "set",
+            TypeUtils.getMethodType(void.class, Field.class, Object.class, Object.class));
+
+    /**
+     * The constant INVOKE.
+     */
+    public static final MethodDescriptor INVOKE = MethodDescriptor.of(OWNER, "invoke",
+            TypeUtils.getMethodType(Object.class, Method.class, Object.class, Object[].class));
+
+    /**
+     * Find field.
+     *
+     * @param owner     the declaring class
+     * @param fieldName the field name
+     * @return the field
+     * @throws NoSuchFieldException the no such field exception
+     */
+    public static Field findField(Class<?> owner, String fieldName) throws NoSuchFieldException {
+        Field field = owner.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field;
+    }
+
+    /**
+     * Find method.
+     *
+     * @param owner          the declaring class
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the method
+     * @throws NoSuchMethodException the no such method exception
+     */
+    public static Method findMethod(Class<?> owner, String methodName, Class<?>[] parameterTypes) throws NoSuchMethodException {
+        Method method = owner.getDeclaredMethod(methodName, parameterTypes);
+        method.setAccessible(true);
+        return method;
+    }
+
+    /**
+     * Get field value.
+     *
+     * @param field the field
+     * @param obj   the obj, null if the field is static
+     * @return the value
+     * @throws IllegalAccessException the illegal access exception
+     */
+    public static Object get(Field field, Object obj) throws IllegalAccessException {
+        return field.get(obj);
+    }
+
+    /**
+     * Set field value.
+     *
+     * @param field the field
+     * @param obj   the obj, null if the field is static
+     * @param value the value
+     * @throws IllegalAccessException the illegal access exception
+     */
+    public static void set(Field field, Object obj, Object value) throws IllegalAccessException {
+        field.set(obj, value);
+    }
+
+    /**
+     * 调用方法, 方法抛出的异常不包装成InvocationTargetException
+     *
+     * @param method the method
+     * @param obj    the obj, null if the method is static
+     * @param args   the args
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    public static Object invoke(Method method, Object obj, Object[] args) throws Throwable {
+        try {
+            return method.invoke(obj, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
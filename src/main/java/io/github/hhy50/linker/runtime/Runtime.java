@@ -14,6 +14,8 @@ import java.lang.invoke.MethodType;
 import java.lang.invoke.MutableCallSite;
 import java.lang.reflect.*;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The type Runtime.
@@ -126,7 +128,7 @@ public class Runtime {
      * @param lookup    the lookup
      * @param clazz     the clazz
      * @param fieldName the field name
-     * @return the method handle
+     * @return the method handle, the first parameter is always the receiver
      * @throws IllegalAccessException    the illegal access exception
      * @throws InvocationTargetException the invocation target exception
      * @throws InstantiationException    the instantiation exception
@@ -137,7 +139,7 @@ public class Runtime {
         if (field == null) {
             throw new NoSuchFieldException("not found property '"+fieldName+"' in class '"+clazz.getName()+"'");
         }
-        return lookup.unreflectGetter(field);
+        return receiverFirst(lookup.unreflectGetter(field), field.getModifiers());
     }
 
 
@@ -147,7 +149,7 @@ public class Runtime {
      * @param lookup    the lookup
      * @param clazz     the clazz
      * @param fieldName the field name
-     * @return the method handle
+     * @return the method handle, the first parameter is always the receiver
      * @throws IllegalAccessException    the illegal access exception
      * @throws InvocationTargetException the invocation target exception
      * @throws InstantiationException    the instantiation exception
@@ -158,7 +160,7 @@ public class Runtime {
         if (field == null) {
             throw new NoSuchFieldException("not found property '"+fieldName+"' in class "+clazz.getName());
         }
-        return lookup.unreflectSetter(field);
+        return receiverFirst(lookup.unreflectSetter(field), field.getModifiers());
     }
 
     /**
@@ -169,7 +171,7 @@ public class Runtime {
      * @param methodName the method name
      * @param superClass the super class
      * @param argsType   the args type
-     * @return the method handle
+     * @return the method handle, the first parameter is always the receiver
      * @throws IllegalAccessException the illegal access exception
      * @throws NoSuchMethodException  the no such method exception
      */
@@ -182,19 +184,45 @@ public class Runtime {
             }
             throw new NoSuchMethodException("not found method '"+methodName+"' in class "+clazz.getName());
         }
-        return superClass == null ? lookup.unreflect(method) : lookup.unreflectSpecial(method, clazz);
+        return receiverFirst(superClass == null ? lookup.unreflect(method) : lookup.unreflectSpecial(method, clazz), method.getModifiers());
     }
 
+    /**
+     * 静态成员的MethodHandle在第一个参数位置补一个被忽略的接收者,
+     * 生成的代码统一使用mh.invoke(obj, args...)调用, 不需要在每次调用时判断是否是静态成员
+     *
+     * @param mh        the mh
+     * @param modifiers the modifiers
+     * @return the method handle
+     */
+    private static MethodHandle receiverFirst(MethodHandle mh, int modifiers) {
+        return Modifier.isStatic(modifiers) ? MethodHandles.dropArguments(mh, 0, Object.class) : mh;
+    }
+
+    /**
+     * 参数类型在调用时才能确定的方法调用点.
+     * <p>
+     * 按照参数的实际类型解析方法, 解析结果按照参数类型缓存并链接为guardWithTest链, 参数类型稳定时不会再进入bootstrap.
+     * 接收者的类型在创建调用点时已经确定, 不需要参与比较
+     */
     static class InvokeDynamic extends MutableCallSite {
+        static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
         static final MethodHandle BOOTSTRAP_METHOD;
+        static final MethodHandle[] ARGS_MATCHES = new MethodHandle[4];
+        static final MethodHandle ARGS_MATCH;
 
         static {
             try {
-                BOOTSTRAP_METHOD = MethodHandles.lookup().findVirtual(InvokeDynamic.class,
-                        "bootstrap", MethodType.methodType(Object.class, Object.class, Object[].class));
-            } catch (NoSuchMethodException e) {
-                throw new RuntimeException(e);
-            } catch (IllegalAccessException e) {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                BOOTSTRAP_METHOD = lookup.findVirtual(InvokeDynamic.class, "bootstrap", GENERIC_TYPE);
+                for (int i = 0; i < ARGS_MATCHES.length; i++) {
+                    Class<?>[] ptypes = new Class<?>[i+1];
+                    Arrays.fill(ptypes, Class.class);
+                    ptypes[i] = Object[].class;
+                    ARGS_MATCHES[i] = lookup.findStatic(InvokeDynamic.class, "argsMatch"+i, MethodType.methodType(boolean.class, ptypes));
+                }
+                ARGS_MATCH = lookup.findStatic(InvokeDynamic.class, "argsMatch", MethodType.methodType(boolean.class, Class[].class, Object[].class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
         }
@@ -203,9 +231,11 @@ public class Runtime {
         private final Class<?> clazz;
         private final String methodName;
         private final MethodHandles.Lookup lookup;
+        private final ConcurrentMap<ArgsKey, MethodHandle> resolved = new ConcurrentHashMap<>();
+        private int depth;
 
         public InvokeDynamic(MethodHandles.Lookup lookup, Class<?> clazz, String superClass, String methodName) {
-            super(MethodType.methodType(Object.class, Object.class, Object[].class));
+            super(GENERIC_TYPE);
             this.superClass = superClass;
             this.clazz = clazz;
             this.methodName = methodName;
@@ -214,16 +244,103 @@ public class Runtime {
         }
 
         public Object bootstrap(Object obj, Object[] args) throws Throwable {
+            Class<?>[] argsType = new Class<?>[args.length];
+            for (int i = 0; i < args.length; i++) {
+                argsType[i] = args[i].getClass();
+            }
+            ArgsKey key = new ArgsKey(argsType);
+            MethodHandle mh = resolved.get(key);
+            if (mh == null) {
+                mh = resolve(argsType);
+                MethodHandle prev = resolved.putIfAbsent(key, mh);
+                if (prev == null) {
+                    relink(argsType, mh);
+                } else {
+                    mh = prev;
+                }
+            }
+            return mh.invokeExact(obj, args);
+        }
+
+        /**
+         * 解析出的MethodHandle统一适配成(Object, Object[])Object
+         */
+        private MethodHandle resolve(Class<?>[] argsType) throws IllegalAccessException, NoSuchMethodException {
             Method method = ReflectUtil.matchMethod(clazz, methodName, superClass,
-                    Arrays.stream(args).map(Object::getClass).map(Class::getName).toArray(String[]::new));
+                    Arrays.stream(argsType).map(Class::getName).toArray(String[]::new));
             if (method == null) {
                 throw new NoSuchMethodException("not found method '"+methodName+"' in class "+clazz.getName());
             }
-            MethodHandle mh = superClass == null ? lookup.unreflect(method) : lookup.unreflectSpecial(method, clazz);
-            if (!Modifier.isStatic(method.getModifiers())) {
-                mh = mh.bindTo(obj);
+            MethodHandle mh = receiverFirst(superClass == null ? lookup.unreflect(method) : lookup.unreflectSpecial(method, clazz), method.getModifiers());
+            return mh.asType(MethodType.genericMethodType(argsType.length+1))
+                    .asSpreader(Object[].class, argsType.length);
+        }
+
+        private synchronized void relink(Class<?>[] argsType, MethodHandle mh) {
+            if (depth >= RuntimeMemberTable.CACHE_DEPTH) {
+                return;
+            }
+            depth++;
+
+            MethodHandle test;
+            if (argsType.length < ARGS_MATCHES.length) {
+                test = MethodHandles.insertArguments(ARGS_MATCHES[argsType.length], 0, (Object[]) argsType);
+            } else {
+                test = ARGS_MATCH.bindTo(argsType);
+            }
+            // (Object[]) -> (Object, Object[])
+            test = MethodHandles.dropArguments(test, 0, Object.class);
+            setTarget(MethodHandles.guardWithTest(test, mh, getTarget()));
+        }
+
+        static boolean argsMatch0(Object[] args) {
+            return args.length == 0;
+        }
+
+        static boolean argsMatch1(Class<?> t0, Object[] args) {
+            return args.length == 1 && isType(t0, args[0]);
+        }
+
+        static boolean argsMatch2(Class<?> t0, Class<?> t1, Object[] args) {
+            return args.length == 2 && isType(t0, args[0]) && isType(t1, args[1]);
+        }
+
+        static boolean argsMatch3(Class<?> t0, Class<?> t1, Class<?> t2, Object[] args) {
+            return args.length == 3 && isType(t0, args[0]) && isType(t1, args[1]) && isType(t2, args[2]);
+        }
+
+        static boolean argsMatch(Class<?>[] argsType, Object[] args) {
+            if (args.length != argsType.length) {
+                return false;
+            }
+            for (int i = 0; i < args.length; i++) {
+                if (!isType(argsType[i], args[i])) return false;
             }
-            return mh.invokeWithArguments(args);
+            return true;
+        }
+
+        private static boolean isType(Class<?> type, Object arg) {
+            return arg != null && arg.getClass() == type;
+        }
+    }
+
+    private static class ArgsKey {
+        private final Class<?>[] argsType;
+        private final int hash;
+
+        ArgsKey(Class<?>[] argsType) {
+            this.argsType = argsType;
+            this.hash = Arrays.hashCode(argsType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArgsKey && Arrays.equals(argsType, ((ArgsKey) o).argsType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 }
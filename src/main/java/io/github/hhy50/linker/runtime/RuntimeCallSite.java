@@ -0,0 +1,99 @@
+package io.github.hhy50.linker.runtime;
+
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.Arrays;
+
+/**
+ * 运行时成员的invokedynamic调用点.
+ * <p>
+ * 调用点的第一个参数是lookup class, 按照lookup class链接guardWithTest链, 未命中时从{@link RuntimeMemberTable}解析并重新链接,
+ * 链接次数超过缓存深度之后(超多态)每次调用都从{@link RuntimeMemberTable}获取
+ */
+public class RuntimeCallSite extends MutableCallSite {
+    /**
+     * The constant OWNER.
+     */
+    public static final String OWNER = "io/github/hhy50/linker/runtime/RuntimeCallSite";
+    /**
+     * The constant BOOTSTRAP.
+     */
+    public static final Handle BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC, OWNER, "bootstrap",
+            TypeUtils.getMethodType(CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class, String.class).getDescriptor(), false);
+
+    private static final MethodHandle FALLBACK;
+    private static final MethodHandle IS_TYPE;
+    private static final MethodHandle RESOLVE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            FALLBACK = lookup.findVirtual(RuntimeCallSite.class, "fallback", MethodType.methodType(Object.class, Object[].class));
+            IS_TYPE = lookup.findStatic(RuntimeCallSite.class, "isType", MethodType.methodType(boolean.class, Class.class, Class.class));
+            RESOLVE = lookup.findVirtual(RuntimeCallSite.class, "resolve", MethodType.methodType(MethodHandle.class, Class.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final RuntimeMemberTable table;
+    private final MethodType memberType;
+    private int depth;
+
+    private RuntimeCallSite(RuntimeMemberTable table, MethodType type) {
+        super(type);
+        this.table = table;
+        this.memberType = type.dropParameterTypes(0, 1);
+        setTarget(FALLBACK.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type));
+    }
+
+    /**
+     * Bootstrap call site.
+     *
+     * @param caller    the caller
+     * @param name      the name
+     * @param type      the type, (Class lookupClass, Object receiver, args...)
+     * @param tableName the static {@link RuntimeMemberTable} field name of the caller
+     * @return the call site
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup caller, String name, MethodType type, String tableName) throws ReflectiveOperationException {
+        RuntimeMemberTable table = (RuntimeMemberTable) caller.lookupClass().getField(tableName).get(null);
+        return new RuntimeCallSite(table, type);
+    }
+
+    private Object fallback(Object[] args) throws Throwable {
+        Class<?> lookupClass = (Class<?>) args[0];
+        MethodHandle target = resolve(lookupClass);
+        relink(lookupClass, target);
+        return target.invokeWithArguments(Arrays.copyOfRange(args, 1, args.length));
+    }
+
+    private synchronized void relink(Class<?> lookupClass, MethodHandle target) {
+        if (depth++ >= RuntimeMemberTable.CACHE_DEPTH) {
+            if (depth == RuntimeMemberTable.CACHE_DEPTH+1) {
+                // (Class, Object, args...) -> resolve(Class).invokeExact(Object, args...)
+                MethodHandle invoker = MethodHandles.dropArguments(MethodHandles.exactInvoker(memberType), 1, Class.class);
+                setTarget(MethodHandles.foldArguments(invoker, RESOLVE.bindTo(this)));
+            }
+            return;
+        }
+        MethodHandle test = IS_TYPE.bindTo(lookupClass);
+        setTarget(MethodHandles.guardWithTest(test, MethodHandles.dropArguments(target, 0, Class.class), getTarget()));
+    }
+
+    private MethodHandle resolve(Class<?> lookupClass) throws ReflectiveOperationException {
+        return table.resolve(lookupClass).asType(memberType);
+    }
+
+    private static boolean isType(Class<?> expected, Class<?> lookupClass) {
+        return expected == lookupClass;
+    }
+}
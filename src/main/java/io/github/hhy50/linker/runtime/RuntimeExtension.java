@@ -1,27 +1,140 @@
 package io.github.hhy50.linker.runtime;
 
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.util.TypeUtils;
+
 import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
 
 /**
- * The type Runtime extension.
+ * 运行时字段的下标和Map key访问, 上一级字段的类型在解析时已知时不会使用.
  */
 public class RuntimeExtension {
 
     /**
-     * Extension property object.
+     * The constant OWNER.
+     */
+    public static final String OWNER = "io/github/hhy50/linker/runtime/RuntimeExtension";
+
+    /**
+     * The constant GET_ELEMENT.
+     */
+    public static final MethodDescriptor GET_ELEMENT = MethodDescriptor.of(OWNER, "getElement",
+            TypeUtils.getMethodType(Object.class, Object.class, int.class));
+
+    /**
+     * The constant SET_ELEMENT.
+     */
+    public static final MethodDescriptor SET_ELEMENT = MethodDescriptor.of(OWNER, "setElement",
+            TypeUtils.getMethodType(void.class, Object.class, int.class, Object.class));
+
+    /**
+     * The constant GET_ELEMENT_BY_ARG.
+     */
+    public static final MethodDescriptor GET_ELEMENT_BY_ARG = MethodDescriptor.of(OWNER, "getElementByArg",
+            TypeUtils.getMethodType(Object.class, Object.class, int.class));
+
+    /**
+     * The constant SET_ELEMENT_BY_ARG.
+     */
+    public static final MethodDescriptor SET_ELEMENT_BY_ARG = MethodDescriptor.of(OWNER, "setElementByArg",
+            TypeUtils.getMethodType(void.class, Object.class, int.class, Object.class));
+
+    /**
+     * The constant GET_VALUE.
+     */
+    public static final MethodDescriptor GET_VALUE = MethodDescriptor.of(OWNER, "getValue",
+            TypeUtils.getMethodType(Object.class, Object.class, Object.class));
+
+    /**
+     * The constant PUT_VALUE.
+     */
+    public static final MethodDescriptor PUT_VALUE = MethodDescriptor.of(OWNER, "putValue",
+            TypeUtils.getMethodType(void.class, Object.class, Object.class, Object.class));
+
+    /**
+     * 数组或者List的元素
+     *
+     * @param obj   the obj
+     * @param index the index
+     * @return the element
+     */
+    public static Object getElement(Object obj, int index) {
+        if (obj instanceof Object[]) {
+            return ((Object[]) obj)[index];
+        }
+        if (obj instanceof List) {
+            return ((List<?>) obj).get(index);
+        }
+        return Array.get(obj, index);
+    }
+
+    /**
+     * 设置数组或者List的元素
      *
-     * @param obj       the obj
-     * @param fieldName the field name
-     * @param index     the index
-     * @return the object
-     */
-    public static Object extensionProperty(Object obj, String fieldName, String index) {
-        if (obj.getClass().isArray() && fieldName.equals("length")) {
-            return Array.getLength(obj);
+     * @param obj   the obj
+     * @param index the index
+     * @param value the value
+     */
+    @SuppressWarnings("unchecked")
+    public static void setElement(Object obj, int index, Object value) {
+        if (obj instanceof Object[]) {
+            ((Object[]) obj)[index] = value;
+        } else if (obj instanceof List) {
+            ((List<Object>) obj).set(index, value);
+        } else {
+            Array.set(obj, index, value);
         }
-        if (obj.getClass().isArray() && index != null) {
-            return Array.get(obj, Integer.parseInt(index));
+    }
+
+    /**
+     * 占位符rows[$0]的元素, 只有占位符的int参数在Map上作为key, 常量下标items[0]总是按下标访问
+     *
+     * @param obj   the obj
+     * @param index the index or key
+     * @return the element
+     */
+    public static Object getElementByArg(Object obj, int index) {
+        return obj instanceof Map ? ((Map<?, ?>) obj).get(index) : getElement(obj, index);
+    }
+
+    /**
+     * 设置占位符rows[$0]的元素, 见{@link #getElementByArg(Object, int)}
+     *
+     * @param obj   the obj
+     * @param index the index or key
+     * @param value the value
+     */
+    @SuppressWarnings("unchecked")
+    public static void setElementByArg(Object obj, int index, Object value) {
+        if (obj instanceof Map) {
+            ((Map<Object, Object>) obj).put(index, value);
+        } else {
+            setElement(obj, index, value);
         }
-        return null;
+    }
+
+    /**
+     * Map的value
+     *
+     * @param obj the obj
+     * @param key the key
+     * @return the value
+     */
+    public static Object getValue(Object obj, Object key) {
+        return ((Map<?, ?>) obj).get(key);
+    }
+
+    /**
+     * 设置Map的value
+     *
+     * @param obj   the obj
+     * @param key   the key
+     * @param value the value
+     */
+    @SuppressWarnings("unchecked")
+    public static void putValue(Object obj, Object key, Object value) {
+        ((Map<Object, Object>) obj).put(key, value);
     }
 }
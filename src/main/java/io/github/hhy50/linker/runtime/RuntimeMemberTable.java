@@ -0,0 +1,161 @@
+package io.github.hhy50.linker.runtime;
+
+import io.github.hhy50.linker.define.MethodDescriptor;
+import io.github.hhy50.linker.util.ReflectUtil;
+import io.github.hhy50.linker.util.TypeUtils;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * 运行时成员的解析表, 按照接收者类型缓存解析出的MethodHandle.
+ * 每个运行时成员对应一个解析表, 同一个类型只会解析一次
+ */
+public class RuntimeMemberTable extends ClassValue<MethodHandle> {
+    /**
+     * The constant OWNER.
+     */
+    public static final String OWNER = "io/github/hhy50/linker/runtime/RuntimeMemberTable";
+    /**
+     * The constant TYPE.
+     */
+    public static final Type TYPE = Type.getObjectType(OWNER);
+    /**
+     * The constant GETTER.
+     */
+    public static final MethodDescriptor GETTER = MethodDescriptor.of(OWNER, "getter", TypeUtils.getMethodType(RuntimeMemberTable.class, String.class));
+    /**
+     * The constant SETTER.
+     */
+    public static final MethodDescriptor SETTER = MethodDescriptor.of(OWNER, "setter", TypeUtils.getMethodType(RuntimeMemberTable.class, String.class));
+    /**
+     * The constant METHOD.
+     */
+    public static final MethodDescriptor METHOD = MethodDescriptor.of(OWNER, "method", TypeUtils.getMethodType(RuntimeMemberTable.class, String.class, String.class, String[].class));
+    /**
+     * The constant RESOLVE.
+     */
+    public static final MethodDescriptor RESOLVE = MethodDescriptor.of(OWNER, "resolve", TypeUtils.getMethodType(MethodHandle.class, Class.class));
+
+    /**
+     * The constant IS_STATIC.
+     */
+    public static final MethodDescriptor IS_STATIC = MethodDescriptor.of(OWNER, "isStatic", TypeUtils.getMethodType(boolean.class, Class.class));
+
+    /**
+     * 每个运行时成员缓存的接收者类型数量(内联缓存和guardWithTest链的长度), 超过之后只查表.
+     * 生成的实现类和运行时都使用这个值, 通过-Dlinker.runtime.cache.depth修改
+     */
+    public static final int CACHE_DEPTH = Integer.getInteger("linker.runtime.cache.depth", 4);
+
+    private static final int GETTER_KIND = 0;
+    private static final int SETTER_KIND = 1;
+    private static final int METHOD_KIND = 2;
+
+    private final int kind;
+    private final String name;
+    private final String superClass;
+    private final String[] argsType;
+
+    private RuntimeMemberTable(int kind, String name, String superClass, String[] argsType) {
+        this.kind = kind;
+        this.name = name;
+        this.superClass = superClass;
+        this.argsType = argsType;
+    }
+
+    /**
+     * Getter runtime member table.
+     *
+     * @param fieldName the field name
+     * @return the runtime member table
+     */
+    public static RuntimeMemberTable getter(String fieldName) {
+        return new RuntimeMemberTable(GETTER_KIND, fieldName, null, null);
+    }
+
+    /**
+     * Setter runtime member table.
+     *
+     * @param fieldName the field name
+     * @return the runtime member table
+     */
+    public static RuntimeMemberTable setter(String fieldName) {
+        return new RuntimeMemberTable(SETTER_KIND, fieldName, null, null);
+    }
+
+    /**
+     * Method runtime member table.
+     *
+     * @param methodName the method name
+     * @param superClass the super class
+     * @param argsType   the args type
+     * @return the runtime member table
+     */
+    public static RuntimeMemberTable method(String methodName, String superClass, String[] argsType) {
+        return new RuntimeMemberTable(METHOD_KIND, methodName, superClass, argsType);
+    }
+
+    /**
+     * Resolve method handle.
+     *
+     * @param clazz the receiver class
+     * @return the method handle, the first parameter is always the receiver
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    public MethodHandle resolve(Class<?> clazz) throws ReflectiveOperationException {
+        try {
+            return get(clazz);
+        } catch (UndeclaredThrowableException e) {
+            Throwable cause = e.getUndeclaredThrowable();
+            if (cause instanceof ReflectiveOperationException) {
+                throw (ReflectiveOperationException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 成员是否是静态的, 只在接收者为null时调用, 非静态成员需要抛出带名字的NullPointerException.
+     * 找不到成员时当作非静态成员
+     *
+     * @param clazz the lookup class, nullable
+     * @return the boolean
+     */
+    public boolean isStatic(Class<?> clazz) {
+        if (clazz == null) {
+            return false;
+        }
+        if (kind == METHOD_KIND) {
+            Method method = ReflectUtil.matchMethod(clazz, name, superClass, argsType);
+            if (method == null) {
+                // 参数类型在调用时才能确定, 交给调用点判断
+                return argsType.length == 1 && argsType[0].equals("java.lang.Object[]");
+            }
+            return Modifier.isStatic(method.getModifiers());
+        }
+        Field field = ReflectUtil.getField(clazz, name);
+        return field != null && Modifier.isStatic(field.getModifiers());
+    }
+
+    @Override
+    protected MethodHandle computeValue(Class<?> clazz) {
+        try {
+            switch (kind) {
+                case GETTER_KIND:
+                    return Runtime.findGetter(Runtime.lookup(clazz), clazz, name);
+                case SETTER_KIND:
+                    return Runtime.findSetter(Runtime.lookup(clazz), clazz, name);
+                default:
+                    return Runtime.findMethod(Runtime.lookup(clazz), clazz, name, superClass, argsType);
+            }
+        } catch (ReflectiveOperationException e) {
+            // ClassValue不会缓存异常, 下一次调用会重新解析
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
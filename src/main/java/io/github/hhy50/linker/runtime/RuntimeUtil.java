@@ -1,20 +1,15 @@
 package io.github.hhy50.linker.runtime;
 
 
-import io.github.hhy50.linker.AccessTool;
 import io.github.hhy50.linker.define.MethodDescriptor;
-import io.github.hhy50.linker.exceptions.LinkerException;
 import io.github.hhy50.linker.generate.bytecode.vars.ObjectVar;
-import io.github.hhy50.linker.syslinker.DirectMethodHandleLinker;
 import io.github.hhy50.linker.util.ClassUtil;
 import io.github.hhy50.linker.util.TypeUtils;
 import org.objectweb.asm.Type;
 import sun.misc.Unsafe;
 
-import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 
 /**
  * The type Runtime util.
@@ -24,11 +19,6 @@ public class RuntimeUtil {
      * The constant OWNER.
      */
     public static final String OWNER = "io/github/hhy50/linker/runtime/RuntimeUtil";
-    /**
-     * The constant IS_STATIC.
-     */
-    public static final MethodDescriptor IS_STATIC = MethodDescriptor.of(OWNER, "isStatic",
-            TypeUtils.getMethodType(boolean.class, MethodHandle.class));
     /**
      * The constant UNWRAP_BYTE_DESC.
      */
@@ -76,19 +66,6 @@ public class RuntimeUtil {
 
     }
 
-    /**
-     * Is static boolean.
-     *
-     * @param methodHandle the method handle
-     * @return the boolean
-     * @throws LinkerException the linker exception
-     */
-    public static boolean isStatic(MethodHandle methodHandle) throws LinkerException {
-        if (methodHandle.getClass().getName().contains("BoundMethodHandle")) return false;
-        DirectMethodHandleLinker mh = AccessTool.createSysLinker(DirectMethodHandleLinker.class, methodHandle);
-        return Modifier.isStatic(mh.modifiers());
-    }
-
     /**
      * Type match boolean.
      *
@@ -21,6 +21,20 @@ public class ArrayIndexFieldToken extends FieldToken {
         this.index = index;
     }
 
+    /**
+     * 下标是方法参数的占位符($0, $1...)时返回参数的位置
+     *
+     * @return the arg index, -1 if the index is not a placeholder
+     */
+    public int placeholder() {
+        return index.matches("\\$\\d{1,3}") ? Integer.parseInt(index.substring(1)) : -1;
+    }
+
+    @Override
+    public boolean arrayExpr() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return fieldName+"["+index+"]";
@@ -22,6 +22,11 @@ public class MapKeyToken extends FieldToken {
         this.key = key;
     }
 
+    @Override
+    public boolean mapExpr() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return fieldName+"['"+key+"']";
@@ -1,5 +1,6 @@
 package io.github.hhy50.linker.util;
 
+import io.github.hhy50.linker.annotations.InvokeDynamic;
 import io.github.hhy50.linker.annotations.Runtime;
 import io.github.hhy50.linker.annotations.Static;
 import io.github.hhy50.linker.annotations.Target;
@@ -57,6 +58,26 @@ public class AnnotationUtils {
         return clazz.getDeclaredAnnotation(Runtime.class) != null;
     }
 
+    /**
+     * Is accessor boolean.
+     *
+     * @param clazz the clazz
+     * @return the boolean
+     */
+    public static boolean isAccessor(Class<?> clazz) {
+        return clazz.getDeclaredAnnotation(Target.Accessor.class) != null;
+    }
+
+    /**
+     * Is invoke dynamic boolean.
+     *
+     * @param clazz the clazz
+     * @return the boolean
+     */
+    public static boolean isInvokeDynamic(Class<?> clazz) {
+        return clazz.getDeclaredAnnotation(InvokeDynamic.class) != null;
+    }
+
     /**
      * Gets designate static fields.
      *
@@ -0,0 +1,96 @@
+package io.github.hhy50.linker.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * 扫描classpath下指定包(包含子包)中的类名, 只读取目录和jar的条目, 不会加载类.
+ */
+public class ClassScanner {
+
+    /**
+     * Scan class names.
+     *
+     * @param cl          the class loader
+     * @param packageName the package name, e.g. com.example
+     * @return the class names
+     * @throws IOException the io exception
+     */
+    public static Set<String> scan(ClassLoader cl, String packageName) throws IOException {
+        String packagePath = ClassUtil.className2path(packageName);
+        Set<String> classNames = new LinkedHashSet<>();
+        Enumeration<URL> resources = cl.getResources(packagePath);
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            if ("file".equals(url.getProtocol())) {
+                scanDirectory(Paths.get(decode(url.getPath())), packageName, classNames);
+            } else if ("jar".equals(url.getProtocol())) {
+                scanJar(url, packagePath, classNames);
+            }
+        }
+        return classNames;
+    }
+
+    private static void scanDirectory(Path dir, String packageName, Set<String> classNames) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        // 包名为空时扫描的是classpath的根目录
+        String prefix = packageName.isEmpty() ? "" : packageName+".";
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.map(path -> dir.relativize(path).toString())
+                    .filter(ClassScanner::isClassFile)
+                    .map(path -> prefix+toClassName(path.replace(File.separatorChar, '/')))
+                    .forEach(classNames::add);
+        }
+    }
+
+    private static void scanJar(URL url, String packagePath, Set<String> classNames) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+            String prefix = packagePath.isEmpty() ? "" : packagePath+"/";
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(prefix) && isClassFile(name)) {
+                    classNames.add(toClassName(name));
+                }
+            }
+        }
+    }
+
+    private static boolean isClassFile(String path) {
+        return path.endsWith(".class") && !path.endsWith("package-info.class") && !path.endsWith("module-info.class");
+    }
+
+    private static String toClassName(String path) {
+        return ClassUtil.classpath2name(path.substring(0, path.length()-".class".length()));
+    }
+
+    private static String decode(String path) {
+        try {
+            return URLDecoder.decode(path, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            return path;
+        }
+    }
+}
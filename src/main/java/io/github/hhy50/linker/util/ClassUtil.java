@@ -3,6 +3,9 @@ package io.github.hhy50.linker.util;
 
 import io.github.hhy50.linker.annotations.Typed;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -11,6 +14,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Stack;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The type Class util.
@@ -116,9 +120,24 @@ public class ClassUtil {
      * @return the boolean
      */
     public static boolean polymorphismMatch(Parameter[] parameters, String[] argTypes) {
-        if (parameters.length != argTypes.length) return false;
+        Class<?>[] pTypes = new Class<?>[parameters.length];
         for (int i = 0; i < parameters.length; i++) {
-            Class<?> pType = parameters[i].getType();
+            pTypes[i] = parameters[i].getType();
+        }
+        return polymorphismMatch(pTypes, argTypes);
+    }
+
+    /**
+     * Polymorphism match boolean.
+     *
+     * @param pTypes   the parameter types
+     * @param argTypes the arg types
+     * @return the boolean
+     */
+    public static boolean polymorphismMatch(Class<?>[] pTypes, String[] argTypes) {
+        if (pTypes.length != argTypes.length) return false;
+        for (int i = 0; i < pTypes.length; i++) {
+            Class<?> pType = pTypes[i];
             String pName = pType.isArray() ? pType.getCanonicalName() : pType.getName();
             if (pType == Object.class && !argTypes[i].equals("java.lang.Object[]")) continue;
             if (argTypes[i].equals(Object.class.getName())) continue;;
@@ -166,6 +185,132 @@ public class ClassUtil {
         return Modifier.isPublic(clazz.getModifiers());
     }
 
+    /**
+     * 生成的实现类是否可以直接访问成员(GETFIELD/PUTFIELD/INVOKEVIRTUAL), 不需要通过MethodHandle.
+     * <p>
+     * 声明类和成员都是public, 成员签名中的类型对ClassLoader可见, JDK9以上声明类所在的包还需要是导出的
+     *
+     * @param member the member
+     * @param cl     the class loader of the impl class
+     * @return the boolean
+     */
+    public static boolean isAccessible(Member member, ClassLoader cl) {
+        if (member == null || !Modifier.isPublic(member.getModifiers())
+                || !isPublic(member.getDeclaringClass()) || !isVisible(member.getDeclaringClass(), cl)) {
+            return false;
+        }
+        try {
+            if (member instanceof Field) {
+                Field field = (Field) member;
+                MethodHandles.publicLookup().unreflectGetter(field);
+                return isVisible(field.getType(), cl);
+            }
+            Method method = (Method) member;
+            MethodHandles.publicLookup().unreflect(method);
+            return isVisible(method.getReturnType(), cl)
+                    && Arrays.stream(method.getParameterTypes()).allMatch(type -> isVisible(type, cl));
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 通过ClassLoader按类名加载到的是否是同一个类
+     *
+     * @param clazz the clazz
+     * @param cl    the class loader
+     * @return the boolean
+     */
+    public static boolean isVisible(Class<?> clazz, ClassLoader cl) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, cl) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 作为lookupClass的nestmate定义的实现类是否可以直接访问成员.
+     * <p>
+     * 同一个nest中的private成员, 同一个包中的包级和protected成员都可以访问, 其他情况和{@link #isAccessible(Member, ClassLoader)}相同
+     *
+     * @param member      the member
+     * @param lookupClass the nest host
+     * @return the boolean
+     */
+    public static boolean isAccessible(Member member, Class<?> lookupClass) {
+        if (member == null) {
+            return false;
+        }
+        ClassLoader cl = lookupClass.getClassLoader();
+        Class<?> declaringClass = member.getDeclaringClass();
+        if (!isAccessible(declaringClass, lookupClass)) {
+            return false;
+        }
+        Class<?>[] types = member instanceof Field ? new Class<?>[]{((Field) member).getType()}
+                : Stream.concat(Stream.of(((Method) member).getReturnType()), Arrays.stream(((Method) member).getParameterTypes())).toArray(Class<?>[]::new);
+        if (!Arrays.stream(types).allMatch(type -> isVisible(type, cl))) {
+            return false;
+        }
+        int modifiers = member.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return isSamePackage(declaringClass, lookupClass) || isAccessible(member, cl);
+        }
+        if (Modifier.isPrivate(modifiers)) {
+            Class<?> nestHost = nestHost(lookupClass);
+            return nestHost != null && nestHost == nestHost(declaringClass);
+        }
+        return isSamePackage(declaringClass, lookupClass);
+    }
+
+    /**
+     * 作为lookupClass的nestmate定义的实现类是否可以访问类型(例如CHECKCAST)
+     *
+     * @param clazz       the clazz
+     * @param lookupClass the nest host
+     * @return the boolean
+     */
+    public static boolean isAccessible(Class<?> clazz, Class<?> lookupClass) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        return isVisible(clazz, lookupClass.getClassLoader()) && (isPublic(clazz) || isSamePackage(clazz, lookupClass));
+    }
+
+    /**
+     * 是否在同一个运行时包中(包名和ClassLoader都相同)
+     *
+     * @param c1 the c 1
+     * @param c2 the c 2
+     * @return the boolean
+     */
+    public static boolean isSamePackage(Class<?> c1, Class<?> c2) {
+        return c1.getClassLoader() == c2.getClassLoader() && packageName(c1).equals(packageName(c2));
+    }
+
+    private static String packageName(Class<?> clazz) {
+        String name = clazz.getName();
+        int i = name.lastIndexOf('.');
+        return i < 0 ? "" : name.substring(0, i);
+    }
+
+    /**
+     * Class.getNestHost(), JDK11以下返回null
+     */
+    private static Class<?> nestHost(Class<?> clazz) {
+        try {
+            return (Class<?>) Class.class.getMethod("getNestHost").invoke(clazz);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
     /**
      * Gets primitive class.
      *
@@ -3,14 +3,30 @@ package io.github.hhy50.linker.util;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The type Reflect util.
  */
 public class ReflectUtil {
+
+    /**
+     * 每个类的成员索引, 包含继承的成员, 只会构建一次
+     */
+    private static final ClassValue<ClassMembers> MEMBERS = new ClassValue<ClassMembers>() {
+        @Override
+        protected ClassMembers computeValue(Class<?> clazz) {
+            return new ClassMembers(clazz);
+        }
+    };
+
     /**
      * Gets method.
      *
@@ -22,11 +38,10 @@ public class ReflectUtil {
         if (clazz == null) {
             return null;
         }
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.getName().equals(methodName)) return method;
-        }
-        if (clazz.getSuperclass() != Object.class) {
-            return getMethod(clazz.getSuperclass(), methodName);
+        for (MethodEntry entry : MEMBERS.get(clazz).getMethods(methodName)) {
+            if (clazz == Object.class || entry.method.getDeclaringClass() != Object.class) {
+                return entry.method;
+            }
         }
         return null;
     }
@@ -42,13 +57,7 @@ public class ReflectUtil {
         if (clazz == null) {
             return null;
         }
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.getName().equals(fieldName)) return field;
-        }
-        if (clazz.getSuperclass() != Object.class) {
-            return getField(clazz.getSuperclass(), fieldName);
-        }
-        return null;
+        return MEMBERS.get(clazz).fields.get(fieldName);
     }
 
     /**
@@ -63,14 +72,10 @@ public class ReflectUtil {
             return null;
         }
 
-        List<Method> methods = new ArrayList<>();
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.getName().equals(methodName)) {
-                methods.add(method);
-            }
-        }
-        if (clazz.getSuperclass() != null) {
-            methods.addAll(getMethods(clazz.getSuperclass(), methodName));
+        List<MethodEntry> entries = MEMBERS.get(clazz).getMethods(methodName);
+        List<Method> methods = new ArrayList<>(entries.size());
+        for (MethodEntry entry : entries) {
+            methods.add(entry.method);
         }
         return methods;
     }
@@ -100,17 +105,7 @@ public class ReflectUtil {
         if (clazz == null) {
             return null;
         }
-
-        List<Method> matches = new ArrayList<>();
-        for (Method method : ReflectUtil.getMethods(clazz, name)) {
-            Parameter[] parameters = method.getParameters();
-            if (parameters.length != argTypes.length) continue;
-            if (ClassUtil.polymorphismMatch(parameters, argTypes)) {
-                matches.add(method);
-            }
-        }
-        if (matches.size() > 0) return matches.get(0);
-        return null;
+        return MEMBERS.get(clazz).matchMethod(name, argTypes);
     }
 
     /**
@@ -121,14 +116,108 @@ public class ReflectUtil {
      * @return the constructor
      */
     public static Constructor<?> matchConstructor(Class<?> clazz, String[] argTypes) {
-        Constructor<?>[] constructors = clazz.getDeclaredConstructors();
-        for (Constructor<?> constructor : constructors) {
-            Parameter[] parameters = constructor.getParameters();
-            if (parameters.length != argTypes.length) continue;
-            if (ClassUtil.polymorphismMatch(parameters, argTypes)) {
-                return constructor;
+        return MEMBERS.get(clazz).matchConstructor(argTypes);
+    }
+
+    private static String signature(String name, String[] argTypes) {
+        StringBuilder sb = new StringBuilder(name).append('(');
+        for (int i = 0; i < argTypes.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(argTypes[i]);
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * 方法以及方法的参数类型, 避免每次匹配时getParameters()拷贝数组
+     */
+    private static class MethodEntry {
+        final Method method;
+        final Class<?>[] parameterTypes;
+
+        MethodEntry(Method method) {
+            this.method = method;
+            this.parameterTypes = method.getParameterTypes();
+        }
+    }
+
+    /**
+     * 单个类的成员索引.
+     * <p>
+     * 字段按照子类优先的顺序去重(到Object为止), 同名方法按照子类优先的顺序排列(包含Object).
+     * 匹配过的重载按照参数签名缓存, 未匹配到的结果同样缓存
+     */
+    private static class ClassMembers {
+        private final Map<String, Field> fields;
+        private final Map<String, List<MethodEntry>> methods;
+        private final Constructor<?>[] constructors;
+        private final Class<?>[][] constructorParameterTypes;
+        private final ConcurrentMap<String, Optional<Method>> matchedMethods = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Optional<Constructor<?>>> matchedConstructors = new ConcurrentHashMap<>();
+
+        ClassMembers(Class<?> clazz) {
+            Class<?> superclass = clazz.getSuperclass();
+            ClassMembers parent = superclass == null ? null : MEMBERS.get(superclass);
+
+            this.fields = new HashMap<>();
+            for (Field field : clazz.getDeclaredFields()) {
+                fields.putIfAbsent(field.getName(), field);
+            }
+            if (parent != null && superclass != Object.class) {
+                parent.fields.forEach(fields::putIfAbsent);
+            }
+
+            Map<String, List<MethodEntry>> methods = new HashMap<>();
+            for (Method method : clazz.getDeclaredMethods()) {
+                methods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(new MethodEntry(method));
+            }
+            if (parent != null) {
+                parent.methods.forEach((name, entries) -> methods.computeIfAbsent(name, k -> new ArrayList<>()).addAll(entries));
+            }
+            methods.replaceAll((name, entries) -> Collections.unmodifiableList(entries));
+            this.methods = methods;
+
+            this.constructors = clazz.getDeclaredConstructors();
+            this.constructorParameterTypes = new Class<?>[constructors.length][];
+            for (int i = 0; i < constructors.length; i++) {
+                constructorParameterTypes[i] = constructors[i].getParameterTypes();
             }
         }
-        return null;
+
+        List<MethodEntry> getMethods(String name) {
+            return methods.getOrDefault(name, Collections.emptyList());
+        }
+
+        Method matchMethod(String name, String[] argTypes) {
+            String signature = signature(name, argTypes);
+            Optional<Method> matched = matchedMethods.get(signature);
+            if (matched == null) {
+                matched = Optional.empty();
+                for (MethodEntry entry : getMethods(name)) {
+                    if (ClassUtil.polymorphismMatch(entry.parameterTypes, argTypes)) {
+                        matched = Optional.of(entry.method);
+                        break;
+                    }
+                }
+                matchedMethods.putIfAbsent(signature, matched);
+            }
+            return matched.orElse(null);
+        }
+
+        Constructor<?> matchConstructor(String[] argTypes) {
+            String signature = signature("<init>", argTypes);
+            Optional<Constructor<?>> matched = matchedConstructors.get(signature);
+            if (matched == null) {
+                matched = Optional.empty();
+                for (int i = 0; i < constructors.length; i++) {
+                    if (ClassUtil.polymorphismMatch(constructorParameterTypes[i], argTypes)) {
+                        matched = Optional.of(constructors[i]);
+                        break;
+                    }
+                }
+                matchedConstructors.putIfAbsent(signature, matched);
+            }
+            return matched.orElse(null);
+        }
     }
 }
@@ -0,0 +1,62 @@
+package io.github.hhy50.linker.test;
+
+import org.objectweb.asm.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 检查生成的实现类中的指令
+ */
+public class Bytecodes {
+
+    /**
+     * ldc加载的ConstantDynamic的名称
+     *
+     * @param bytecode the bytecode
+     * @return the names
+     */
+    public static List<String> constantDynamics(byte[] bytecode) {
+        List<String> names = new ArrayList<>();
+        visit(bytecode, new MethodVisitor(Opcodes.ASM9) {
+            @Override
+            public void visitLdcInsn(Object value) {
+                if (value instanceof ConstantDynamic) {
+                    names.add(((ConstantDynamic) value).getName());
+                }
+            }
+        });
+        return names;
+    }
+
+    /**
+     * 访问owner类字段的指令(GETFIELD/PUTFIELD/GETSTATIC/PUTSTATIC)的字段名称
+     *
+     * @param bytecode the bytecode
+     * @param opcode   the opcode
+     * @param owner    the owner class
+     * @return the names
+     */
+    public static List<String> fieldInsns(byte[] bytecode, int opcode, Class<?> owner) {
+        List<String> names = new ArrayList<>();
+        String ownerName = Type.getInternalName(owner);
+        visit(bytecode, new MethodVisitor(Opcodes.ASM9) {
+            @Override
+            public void visitFieldInsn(int op, String fieldOwner, String name, String descriptor) {
+                if (op == opcode && fieldOwner.equals(ownerName)) {
+                    names.add(name);
+                }
+            }
+        });
+        return names;
+    }
+
+    private static void visit(byte[] bytecode, MethodVisitor mv) {
+        new ClassReader(bytecode).accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                return mv;
+            }
+        }, 0);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.hhy50.linker.test.accessor;
+
+import io.github.hhy50.linker.LinkerFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AccessorTest {
+
+    @Test
+    public void test() throws Exception {
+        UserAccessor accessor = LinkerFactory.createAccessor(UserAccessor.class);
+        Assert.assertSame(accessor, LinkerFactory.createAccessor(UserAccessor.class));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(new User("user"+i, i));
+        }
+        int sum = 0;
+        for (User user : users) {
+            accessor.setAge(user, accessor.getAge(user)+1);
+            sum += accessor.getAge(user);
+        }
+        Assert.assertEquals(5050, sum);
+        Assert.assertEquals("user7", accessor.getName(users.get(7)));
+        Assert.assertEquals("hi, user3", accessor.greet(users.get(3), "hi"));
+        Assert.assertEquals("city5", accessor.getCity(users.get(5)));
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.hhy50.linker.test.accessor;
+
+public class User {
+    private String name;
+    private int age;
+    private Object profile;
+
+    public User(String name, int age) {
+        this.name = name;
+        this.age = age;
+        this.profile = new Profile("city"+age);
+    }
+
+    static class Profile {
+        private String city;
+
+        Profile(String city) {
+            this.city = city;
+        }
+    }
+
+    private String greet(String prefix) {
+        return prefix+", "+name;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.hhy50.linker.test.accessor;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Accessor
+@Target.Bind("io.github.hhy50.linker.test.accessor.User")
+public interface UserAccessor {
+
+    @Field.Getter("name")
+    String getName(User user);
+
+    @Field.Getter("age")
+    int getAge(Object user);
+
+    @Field.Setter("age")
+    void setAge(Object user, int age);
+
+    @Field.Getter("profile.city")
+    String getCity(Object user);
+
+    String greet(Object user, String prefix);
+}
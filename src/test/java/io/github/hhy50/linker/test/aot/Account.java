@@ -0,0 +1,10 @@
+package io.github.hhy50.linker.test.aot;
+
+public class Account {
+    private String owner = "linker";
+    private long balance = 100L;
+
+    private long deposit(long amount) {
+        return balance += amount;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.hhy50.linker.test.aot;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("io.github.hhy50.linker.test.aot.Account")
+public interface AccountVisitor {
+
+    @Field.Getter("owner")
+    String getOwner();
+
+    @Field.Setter("balance")
+    void setBalance(long balance);
+
+    long deposit(long amount);
+}
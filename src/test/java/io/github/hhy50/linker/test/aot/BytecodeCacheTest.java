@@ -0,0 +1,54 @@
+package io.github.hhy50.linker.test.aot;
+
+import io.github.hhy50.linker.aot.BytecodeCache;
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public class BytecodeCacheTest {
+
+    @Test
+    public void test() throws Exception {
+        ClassLoader cl = AccountVisitor.class.getClassLoader();
+        Path cacheDir = Files.createTempDirectory("linker-cache");
+        System.setProperty("linker.cache.path", cacheDir.toString());
+        try {
+            InterfaceImplClassDefine generated = ClassDefineParse.generateBytecode(AccountVisitor.class, Account.class, cl);
+            String implName = generated.getClassName();
+            Assert.assertNull(BytecodeCache.load(AccountVisitor.class, Account.class, implName, cl));
+
+            BytecodeCache.store(generated, cl);
+            File[] entries = cacheDir.toFile().listFiles();
+            Assert.assertNotNull(entries);
+            Assert.assertEquals(1, entries.length);
+
+            InterfaceImplClassDefine cached = BytecodeCache.load(AccountVisitor.class, Account.class, implName, cl);
+            Assert.assertNotNull(cached);
+            Assert.assertEquals(implName, cached.getClassName());
+            Assert.assertArrayEquals(generated.getBytecode(), cached.getBytecode());
+            // 方法在使用时解析
+            Assert.assertEquals(generated.getMethodDefines().size(), cached.getMethodDefines().size());
+
+            // 缓存文件损坏时当作未命中
+            byte[] bytes = Files.readAllBytes(entries[0].toPath());
+            Files.write(entries[0].toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+            Assert.assertNull(BytecodeCache.load(AccountVisitor.class, Account.class, implName, cl));
+
+            System.clearProperty("linker.cache.path");
+            Assert.assertNull(BytecodeCache.load(AccountVisitor.class, Account.class, implName, cl));
+        } finally {
+            System.clearProperty("linker.cache.path");
+            try (Stream<Path> paths = Files.list(cacheDir)) {
+                paths.forEach(path -> path.toFile().delete());
+            }
+            Files.delete(cacheDir);
+        }
+    }
+}
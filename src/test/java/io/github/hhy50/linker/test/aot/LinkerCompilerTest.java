@@ -0,0 +1,60 @@
+package io.github.hhy50.linker.test.aot;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.aot.LinkerCompiler;
+import io.github.hhy50.linker.aot.Precompiled;
+import io.github.hhy50.linker.define.InterfaceImplClassDefine;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class LinkerCompilerTest {
+
+    @Test
+    public void test() throws Exception {
+        ClassLoader cl = AccountVisitor.class.getClassLoader();
+        File classesDir = new File(AccountVisitor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String implName = AccountVisitor.class.getName()+"$"+Account.class.getName().replace('.', '_');
+        File fingerprint = new File(classesDir, "META-INF/linker/"+implName+".properties");
+
+        File classFile = LinkerCompiler.compile(AccountVisitor.class, classesDir, cl);
+        try {
+            Assert.assertNotNull(classFile);
+            Assert.assertTrue(classFile.exists());
+            Assert.assertTrue(fingerprint.exists());
+
+            InterfaceImplClassDefine precompiled = Precompiled.load(AccountVisitor.class, Account.class, implName, cl);
+            Assert.assertNotNull(precompiled);
+            Assert.assertArrayEquals(Files.readAllBytes(classFile.toPath()), precompiled.getBytecode());
+            Assert.assertEquals(AccountVisitor.class.getMethods().length, precompiled.getMethodDefines().size());
+
+            AccountVisitor visitor = LinkerFactory.createLinker(AccountVisitor.class, new Account());
+            Assert.assertEquals("linker", visitor.getOwner());
+            visitor.setBalance(1L);
+            Assert.assertEquals(3L, visitor.deposit(2L));
+
+            // 内联缓存深度不同时不使用预编译的实现类
+            String content = new String(Files.readAllBytes(fingerprint.toPath()), StandardCharsets.ISO_8859_1);
+            String depth = "cacheDepth="+Integer.getInteger("linker.runtime.cache.depth", 4)+"\n";
+            Assert.assertTrue(content.contains(depth));
+            Files.write(fingerprint.toPath(), content.replace(depth, "cacheDepth=0\n").getBytes(StandardCharsets.ISO_8859_1));
+            Assert.assertNull(Precompiled.load(AccountVisitor.class, Account.class, implName, cl));
+            Files.write(fingerprint.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+            Assert.assertNotNull(Precompiled.load(AccountVisitor.class, Account.class, implName, cl));
+
+            // 目标类发生变化之后不再使用预编译的实现类
+            String key = "class."+Account.class.getName()+"=";
+            int index = content.indexOf(key)+key.length();
+            char stale = content.charAt(index) == '0' ? '1' : '0';
+            content = content.substring(0, index)+stale+content.substring(index+1);
+            Files.write(fingerprint.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+            Assert.assertNull(Precompiled.load(AccountVisitor.class, Account.class, implName, cl));
+        } finally {
+            if (classFile != null) classFile.delete();
+            fingerprint.delete();
+        }
+    }
+}
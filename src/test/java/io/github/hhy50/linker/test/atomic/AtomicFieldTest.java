@@ -0,0 +1,66 @@
+package io.github.hhy50.linker.test.atomic;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.runtime.AtomicFieldHandles;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AtomicFieldTest {
+
+    @Test
+    public void test() throws Exception {
+        CounterVisitor visitor = LinkerFactory.createLinker(CounterVisitor.class, new Counter());
+        Assert.assertTrue(visitor.casState(0, 1));
+        Assert.assertFalse(visitor.casState(0, 2));
+        Assert.assertEquals(1, visitor.getState());
+
+        Object owner = new Object();
+        visitor.setOwner(owner);
+        Assert.assertTrue(visitor.casOwner(owner, "next"));
+        Assert.assertFalse(visitor.casOwner(owner, "other"));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    visitor.addHits(1);
+                    visitor.addTotal(2);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(40000, visitor.getHits());
+        Assert.assertEquals(80000, visitor.addTotal(0));
+    }
+
+    /**
+     * JDK8没有VarHandle, 强制走Unsafe
+     */
+    @Test
+    public void testUnsafe() throws Throwable {
+        Counter counter = new Counter();
+        MethodHandle cas = AtomicFieldHandles.findByUnsafe(Counter.class, "state", "COMPARE_AND_SET", int.class);
+        MethodHandle get = AtomicFieldHandles.findByUnsafe(Counter.class, "state", "GET_VOLATILE", int.class);
+        Assert.assertTrue((boolean) cas.invoke((Object) counter, 0, 1));
+        Assert.assertFalse((boolean) cas.invoke((Object) counter, 0, 2));
+        Assert.assertEquals(1, (int) get.invoke((Object) counter));
+
+        Counter.Stats stats = new Counter.Stats();
+        MethodHandle set = AtomicFieldHandles.findByUnsafe(Counter.Stats.class, "owner", "SET_RELEASE", Object.class);
+        MethodHandle getOwner = AtomicFieldHandles.findByUnsafe(Counter.Stats.class, "owner", "GET_VOLATILE", Object.class);
+        set.invoke((Object) stats, (Object) "owner");
+        Assert.assertEquals("owner", getOwner.invoke((Object) stats));
+
+        MethodHandle add = AtomicFieldHandles.findByUnsafe(Counter.class, "total", "GET_AND_ADD", long.class);
+        long before = (long) add.invoke(5L);
+        Assert.assertEquals(before + 5, (long) add.invoke(0L));
+    }
+}
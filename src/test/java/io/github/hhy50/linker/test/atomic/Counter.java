@@ -0,0 +1,13 @@
+package io.github.hhy50.linker.test.atomic;
+
+public class Counter {
+    private static long total;
+
+    private final Stats stats = new Stats();
+    private volatile int state;
+
+    static class Stats {
+        private int hits;
+        private Object owner;
+    }
+}
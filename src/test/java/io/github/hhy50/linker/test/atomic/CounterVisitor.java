@@ -0,0 +1,29 @@
+package io.github.hhy50.linker.test.atomic;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("io.github.hhy50.linker.test.atomic.Counter")
+public interface CounterVisitor {
+
+    @Field.CompareAndSet("state")
+    boolean casState(int expect, int update);
+
+    @Field.GetVolatile("state")
+    int getState();
+
+    @Field.GetAndAdd("stats.hits")
+    int addHits(int delta);
+
+    @Field.GetVolatile("stats.hits")
+    int getHits();
+
+    @Field.SetRelease("stats.owner")
+    void setOwner(Object owner);
+
+    @Field.CompareAndSet("stats.owner")
+    boolean casOwner(Object expect, Object update);
+
+    @Field.GetAndAdd("total")
+    long addTotal(long delta);
+}
@@ -0,0 +1,71 @@
+package io.github.hhy50.linker.test.backend;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.annotations.Backend;
+import io.github.hhy50.linker.annotations.Target;
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import io.github.hhy50.linker.runtime.LazyHandles;
+import io.github.hhy50.linker.test.Bytecodes;
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class BackendTest {
+
+    @Test
+    public void test() throws Exception {
+        Sensor sensor = new Sensor("s1");
+        SensorVisitor visitor = LinkerFactory.createLinker(SensorVisitor.class, sensor);
+        visitor.setValue(2.5);
+        Assert.assertEquals("s1", visitor.getName());
+        Assert.assertEquals(2.5, visitor.getValue(), 0);
+        Assert.assertEquals(5.0, visitor.scale(2), 0);
+        Assert.assertEquals(Sensor.created, visitor.getCreated());
+
+        visitor.setNext(new Sensor("s2"));
+        Assert.assertEquals("s2", visitor.getNextName());
+
+        visitor.setTicks(7);
+        Assert.assertEquals(7, visitor.getTicks());
+        visitor.reset();
+        Assert.assertEquals(0, visitor.getValue(), 0);
+        Assert.assertEquals(0, visitor.getTicks());
+
+        // 方法抛出的异常不包装
+        try {
+            visitor.fail("boom");
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("boom", e.getMessage());
+        }
+
+        // reflect的成员缓存Field/Method, 只有声明了methodhandle的ticks使用MethodHandle(JDK11以上通过ConstantDynamic加载)
+        Class<?>[] types = Arrays.stream(visitor.getClass().getDeclaredFields()).map(java.lang.reflect.Field::getType).toArray(Class[]::new);
+        Assert.assertEquals(LazyHandles.ENABLED ? 0 : 1, Arrays.stream(types).filter(type -> type == MethodHandle.class).count());
+        byte[] bytecode = ClassDefineParse.generateBytecode(SensorVisitor.class, Sensor.class, Sensor.class.getClassLoader()).getBytecode();
+        if (LazyHandles.ENABLED) {
+            Assert.assertEquals(Collections.singletonList("ticks"), Bytecodes.constantDynamics(bytecode));
+        }
+        // public字段ticks的getter声明了methodhandle, 只有direct的setter使用PUTFIELD
+        Assert.assertFalse(Bytecodes.fieldInsns(bytecode, Opcodes.GETFIELD, Sensor.class).contains("ticks"));
+        Assert.assertEquals(Collections.singletonList("ticks"), Bytecodes.fieldInsns(bytecode, Opcodes.PUTFIELD, Sensor.class));
+        Assert.assertEquals(5, Arrays.stream(types).filter(type -> type == java.lang.reflect.Field.class).count());
+        Assert.assertEquals(3, Arrays.stream(types).filter(type -> type == java.lang.reflect.Method.class).count());
+    }
+
+    @Backend("unknown")
+    @Target.Bind("io.github.hhy50.linker.test.backend.Sensor")
+    public interface UnknownBackend {
+        String getName();
+    }
+
+    @Test(expected = LinkerException.class)
+    public void testUnknownBackend() throws Exception {
+        LinkerFactory.createLinker(UnknownBackend.class, new Sensor("s3"));
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.hhy50.linker.test.backend;
+
+public class Sensor {
+    static int created;
+
+    private String name;
+    private double value;
+    public long ticks;
+    private Sensor next;
+
+    public Sensor(String name) {
+        this.name = name;
+        created++;
+    }
+
+    private double scale(double factor) {
+        return value * factor;
+    }
+
+    public void reset() {
+        this.value = 0;
+        this.ticks = 0;
+    }
+
+    private void fail(String message) {
+        throw new IllegalStateException(message);
+    }
+}
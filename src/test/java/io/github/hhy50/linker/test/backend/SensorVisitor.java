@@ -0,0 +1,42 @@
+package io.github.hhy50.linker.test.backend;
+
+import io.github.hhy50.linker.annotations.Backend;
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Backend("reflect")
+@Target.Bind("io.github.hhy50.linker.test.backend.Sensor")
+public interface SensorVisitor {
+
+    @Field.Getter("name")
+    String getName();
+
+    @Field.Setter("value")
+    void setValue(double value);
+
+    @Field.Getter("value")
+    double getValue();
+
+    @Field.Setter("next")
+    void setNext(Object next);
+
+    @Field.Getter("next.name")
+    String getNextName();
+
+    @Field.Getter("created")
+    int getCreated();
+
+    double scale(double factor);
+
+    void reset();
+
+    void fail(String message);
+
+    @Backend("methodhandle")
+    @Field.Getter("ticks")
+    long getTicks();
+
+    @Backend("direct")
+    @Field.Setter("ticks")
+    void setTicks(long ticks);
+}
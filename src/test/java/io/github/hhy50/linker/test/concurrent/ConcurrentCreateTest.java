@@ -0,0 +1,39 @@
+package io.github.hhy50.linker.test.concurrent;
+
+import io.github.hhy50.linker.LinkerFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class ConcurrentCreateTest {
+
+    @Test
+    public void test() throws Exception {
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CounterVisitor>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Counter counter = new Counter(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return LinkerFactory.createLinker(CounterVisitor.class, counter);
+            }));
+        }
+        start.countDown();
+        try {
+            Class<?> implClass = null;
+            for (int i = 0; i < threads; i++) {
+                CounterVisitor visitor = futures.get(i).get(30, TimeUnit.SECONDS);
+                Assert.assertEquals(i, visitor.getCount());
+                if (implClass == null) implClass = visitor.getClass();
+                Assert.assertSame(implClass, visitor.getClass());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
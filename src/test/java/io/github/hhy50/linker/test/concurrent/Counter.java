@@ -0,0 +1,9 @@
+package io.github.hhy50.linker.test.concurrent;
+
+public class Counter {
+    private int count;
+
+    public Counter(int count) {
+        this.count = count;
+    }
+}
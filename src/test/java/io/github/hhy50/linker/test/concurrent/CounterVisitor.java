@@ -0,0 +1,9 @@
+package io.github.hhy50.linker.test.concurrent;
+
+import io.github.hhy50.linker.annotations.Field;
+
+public interface CounterVisitor {
+
+    @Field.Getter("count")
+    int getCount();
+}
@@ -1,10 +1,15 @@
 package io.github.hhy50.linker.test.constructor;
 
+import io.github.hhy50.linker.LinkerCache;
 import io.github.hhy50.linker.LinkerFactory;
 import io.github.hhy50.linker.exceptions.LinkerException;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
 
 public class MyObjectTest {
 
@@ -19,4 +24,19 @@ public class MyObjectTest {
         Assert.assertNotNull(o2);
         Assert.assertEquals(o1, o2);
     }
+
+    @Test
+    public void testLinkerCache() throws LinkerException {
+        MyObjectVisitor staticLinker = LinkerFactory.createStaticLinker(MyObjectVisitor.class, MyObject.class);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(staticLinker.newInstance1("haiyang"), staticLinker.newInstance2("haiyang"));
+        }
+
+        // 返回值的连接器通过static final的LinkerCache创建
+        Field[] caches = Arrays.stream(staticLinker.getClass().getDeclaredFields())
+                .filter(field -> field.getType() == LinkerCache.class)
+                .toArray(Field[]::new);
+        Assert.assertEquals(1, caches.length);
+        Assert.assertTrue(Modifier.isStatic(caches[0].getModifiers()) && Modifier.isFinal(caches[0].getModifiers()));
+    }
 }
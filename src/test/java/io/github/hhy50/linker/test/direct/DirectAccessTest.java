@@ -0,0 +1,50 @@
+package io.github.hhy50.linker.test.direct;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.runtime.LazyHandles;
+import io.github.hhy50.linker.test.Bytecodes;
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class DirectAccessTest {
+
+    @Test
+    public void test() throws Exception {
+        Point point = new Point(1, 2);
+        PointVisitor visitor = LinkerFactory.createLinker(PointVisitor.class, point);
+        visitor.setX(10);
+        visitor.setLabel("p");
+        Assert.assertEquals(10, visitor.getX());
+        Assert.assertEquals("p", visitor.getLabel());
+        Assert.assertEquals(Point.count, visitor.getCount());
+        Assert.assertEquals(2, visitor.getY());
+        Assert.assertEquals(15, visitor.sum(3));
+
+        // 只有private字段y需要MethodHandle, JDK11以上通过ConstantDynamic加载, 不需要字段
+        List<String> mhFields = Arrays.stream(visitor.getClass().getDeclaredFields())
+                .filter(field -> field.getType() == MethodHandle.class)
+                .map(java.lang.reflect.Field::getName)
+                .collect(Collectors.toList());
+        byte[] bytecode = ClassDefineParse.generateBytecode(PointVisitor.class, Point.class, Point.class.getClassLoader()).getBytecode();
+        if (LazyHandles.ENABLED) {
+            Assert.assertEquals(0, mhFields.size());
+            Assert.assertEquals(Collections.singletonList("y"), Bytecodes.constantDynamics(bytecode));
+        } else {
+            Assert.assertEquals(1, mhFields.size());
+            Assert.assertTrue(mhFields.get(0).contains("y"));
+        }
+        // public字段直接GETFIELD/PUTFIELD
+        List<String> getFields = Bytecodes.fieldInsns(bytecode, Opcodes.GETFIELD, Point.class);
+        Assert.assertTrue(getFields.containsAll(Arrays.asList("x", "label")));
+        Assert.assertFalse(getFields.contains("y"));
+        Assert.assertEquals(Collections.singletonList("count"), Bytecodes.fieldInsns(bytecode, Opcodes.GETSTATIC, Point.class));
+    }
+}
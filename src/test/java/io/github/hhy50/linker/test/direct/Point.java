@@ -0,0 +1,19 @@
+package io.github.hhy50.linker.test.direct;
+
+public class Point {
+    public static int count;
+
+    public int x;
+    public String label;
+    private int y;
+
+    public Point(int x, int y) {
+        this.x = x;
+        this.y = y;
+        count++;
+    }
+
+    public int sum(int z) {
+        return x+y+z;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.hhy50.linker.test.direct;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("io.github.hhy50.linker.test.direct.Point")
+public interface PointVisitor {
+
+    @Field.Getter("x")
+    int getX();
+
+    @Field.Setter("x")
+    void setX(int x);
+
+    @Field.Getter("label")
+    String getLabel();
+
+    @Field.Setter("label")
+    void setLabel(String label);
+
+    @Field.Getter("count")
+    int getCount();
+
+    @Field.Getter("y")
+    int getY();
+
+    int sum(int z);
+}
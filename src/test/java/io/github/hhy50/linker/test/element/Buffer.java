@@ -0,0 +1,54 @@
+package io.github.hhy50.linker.test.element;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Buffer {
+
+    private int[] data = {1, 2, 3};
+
+    private String[] names = {"a", "b"};
+
+    private List<String> items = new ArrayList<>();
+
+    private Map<String, Object> headers = new HashMap<>();
+
+    private Node[] nodes = {new Node("n0"), new Node("n1")};
+
+    private Object any = new long[]{10L, 20L};
+
+    private Object table = new HashMap<Integer, String>();
+
+    @SuppressWarnings("unchecked")
+    public Buffer() {
+        items.add("i0");
+        headers.put("traceId", "t-1");
+        headers.put("node", new Node("h0"));
+        headers.put("tag", new Tag("g0"));
+        ((Map<Integer, String>) table).put(1, "one");
+    }
+
+    static class Node {
+        private String name;
+
+        private int[] values = {7, 8};
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        String upper() {
+            return name.toUpperCase();
+        }
+    }
+
+    static class Tag {
+        private String name;
+
+        Tag(String name) {
+            this.name = name;
+        }
+    }
+}
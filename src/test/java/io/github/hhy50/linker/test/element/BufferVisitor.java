@@ -0,0 +1,94 @@
+package io.github.hhy50.linker.test.element;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Method;
+import io.github.hhy50.linker.annotations.Target;
+import io.github.hhy50.linker.annotations.Typed;
+
+@Target.Bind("io.github.hhy50.linker.test.element.Buffer")
+public interface BufferVisitor {
+
+    @Field.Getter("data[1]")
+    int getData1();
+
+    @Field.Setter("data[1]")
+    void setData1(int value);
+
+    @Field.Getter("data.length")
+    int getDataLength();
+
+    @Field.Getter("names[1]")
+    String getName1();
+
+    @Field.Getter("names[0]")
+    String getName0();
+
+    @Field.Setter("names[0]")
+    void setName0(String name);
+
+    @Field.Getter("items[0]")
+    Object getItem0();
+
+    @Field.Setter("items[0]")
+    void setItem0(Object item);
+
+    @Field.Getter("headers['traceId']")
+    Object getTraceId();
+
+    @Field.Setter("headers['traceId']")
+    void setTraceId(Object traceId);
+
+    @Field.Getter("nodes[1].name")
+    String getNode1Name();
+
+    @Method.Name("nodes[0].upper")
+    String upperNode0();
+
+    @Typed(name = "headers['node']", type = "io.github.hhy50.linker.test.element.Buffer$Node")
+    @Field.Getter("headers['node'].name")
+    String getHeaderNodeName();
+
+    @Field.Getter("any[0]")
+    Object getAny0();
+
+    @Field.Getter("any[1]")
+    Object getAny1();
+
+    @Field.Setter("any[0]")
+    void setAny0(Object value);
+
+    @Field.Getter("data[$0]")
+    int getData(int index);
+
+    @Field.Setter("data[$0]")
+    void setData(int index, int value);
+
+    @Field.Getter("nodes[$0].values[$1]")
+    int getNodeValue(int node, int index);
+
+    @Field.Getter("headers[$0]")
+    Object getHeader(String key);
+
+    @Field.Setter("headers[$0]")
+    void setHeader(String key, Object value);
+
+    @Field.Getter("any[$0]")
+    Object getAny(int index);
+
+    @Field.Getter("table[$0]")
+    Object getTable(int key);
+
+    @Field.Setter("table[$0]")
+    void setTable(int key, Object value);
+
+    @Field.Getter("table[1]")
+    Object getTable1();
+
+    @Typed(name = "headers[$0]", type = "io.github.hhy50.linker.test.element.Buffer$Node")
+    @Field.Getter("headers[$0].name")
+    String getNodeName(String key);
+
+    @Typed(name = "headers[$0]", type = "io.github.hhy50.linker.test.element.Buffer$Tag")
+    @Field.Getter("headers[$0].name")
+    String getTagName(String key);
+}
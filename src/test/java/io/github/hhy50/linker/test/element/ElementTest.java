@@ -0,0 +1,123 @@
+package io.github.hhy50.linker.test.element;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.annotations.Backend;
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+import io.github.hhy50.linker.annotations.Typed;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ElementTest {
+
+    @Test
+    public void test() throws LinkerException {
+        BufferVisitor visitor = LinkerFactory.createLinker(BufferVisitor.class, new Buffer());
+        Assert.assertEquals(2, visitor.getData1());
+        visitor.setData1(5);
+        Assert.assertEquals(5, visitor.getData1());
+        Assert.assertEquals(3, visitor.getDataLength());
+
+        Assert.assertEquals("b", visitor.getName1());
+        visitor.setName0("c");
+        Assert.assertEquals("c", visitor.getName0());
+        Assert.assertEquals("b", visitor.getName1());
+
+        Assert.assertEquals("i0", visitor.getItem0());
+        visitor.setItem0("i1");
+        Assert.assertEquals("i1", visitor.getItem0());
+
+        Assert.assertEquals("t-1", visitor.getTraceId());
+        visitor.setTraceId("t-2");
+        Assert.assertEquals("t-2", visitor.getTraceId());
+
+        Assert.assertEquals("n1", visitor.getNode1Name());
+        Assert.assertEquals("N0", visitor.upperNode0());
+        Assert.assertEquals("h0", visitor.getHeaderNodeName());
+
+        // 运行时字段通过RuntimeExtension访问
+        Assert.assertEquals(20L, visitor.getAny1());
+        visitor.setAny0(30L);
+        Assert.assertEquals(30L, visitor.getAny0());
+    }
+
+    @Test
+    public void testPlaceholder() throws LinkerException {
+        BufferVisitor visitor = LinkerFactory.createLinker(BufferVisitor.class, new Buffer());
+        visitor.setData(2, 9);
+        Assert.assertEquals(1, visitor.getData(0));
+        Assert.assertEquals(9, visitor.getData(2));
+        Assert.assertEquals(8, visitor.getNodeValue(1, 1));
+
+        visitor.setHeader("spanId", "s-1");
+        Assert.assertEquals("s-1", visitor.getHeader("spanId"));
+        Assert.assertEquals("t-1", visitor.getHeader("traceId"));
+        Assert.assertEquals(20L, visitor.getAny(1));
+
+        // 运行时的Map, 只有占位符的int参数作为key
+        Assert.assertEquals("one", visitor.getTable(1));
+        visitor.setTable(2, "two");
+        Assert.assertEquals("two", visitor.getTable(2));
+        try {
+            visitor.getTable1();
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        // 同一个占位符表达式在不同方法上指定不同的类型
+        Assert.assertEquals("h0", visitor.getNodeName("node"));
+        Assert.assertEquals("g0", visitor.getTagName("tag"));
+        try {
+            visitor.getData(3);
+            Assert.fail();
+        } catch (ArrayIndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Target.Bind("io.github.hhy50.linker.test.element.Buffer")
+    public interface IllegalPlaceholder {
+        @Field.Getter("data[$1]")
+        int get(int index);
+    }
+
+    @Test(expected = LinkerException.class)
+    public void testIllegalPlaceholder() throws LinkerException {
+        LinkerFactory.createLinker(IllegalPlaceholder.class, new Buffer());
+    }
+
+    @Target.Bind("io.github.hhy50.linker.test.element.Buffer")
+    public interface IllegalBackend {
+        @Backend("reflect")
+        @Typed(name = "headers[$0]", type = "io.github.hhy50.linker.test.element.Buffer$Node")
+        @Field.Getter("headers[$0].name")
+        String getNodeName(String key);
+    }
+
+    @Test(expected = LinkerException.class)
+    public void testIllegalBackend() throws LinkerException {
+        LinkerFactory.createLinker(IllegalBackend.class, new Buffer());
+    }
+
+    @Target.Bind("io.github.hhy50.linker.test.element.Buffer")
+    public interface LengthSetter {
+        @Field.Setter("data.length")
+        void setLength(int length);
+    }
+
+    @Test(expected = LinkerException.class)
+    public void testLengthSetter() throws LinkerException {
+        LinkerFactory.createLinker(LengthSetter.class, new Buffer());
+    }
+
+    @Target.Bind("io.github.hhy50.linker.test.element.Buffer")
+    public interface IllegalIndex {
+        @Field.Getter("headers[0]")
+        Object get();
+    }
+
+    @Test(expected = LinkerException.class)
+    public void testIllegalIndex() throws LinkerException {
+        LinkerFactory.createLinker(IllegalIndex.class, new Buffer());
+    }
+}
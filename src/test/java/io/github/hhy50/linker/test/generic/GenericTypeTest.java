@@ -23,6 +23,15 @@ public class GenericTypeTest {
         Assert.assertEquals(myMap.get("key1"), "value1");
         Assert.assertEquals(myMap.get("key2"), "value2");
 
+        // 参数类型不断变化
+        Object[] keys = new Object[]{1, 2L, 3.0d, 'c', (short) 5, (byte) 6, 7.0f};
+        for (int round = 0; round < 2; round++) {
+            for (Object key : keys) {
+                myMap.put(key, round);
+                Assert.assertEquals(round, myMap.get(key));
+            }
+        }
+
         MyStaticUser user = LinkerFactory.createStaticLinker(MyStaticUser.class, StaticUser.class);
         Assert.assertEquals(user.getName("linker"), "linker");
         Assert.assertEquals(user.getName(), "default");
@@ -0,0 +1,123 @@
+package io.github.hhy50.linker.test.hidden;
+
+import io.github.hhy50.linker.LinkerFactory;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+public class HiddenClassTest {
+
+    @Test
+    public void test() throws Exception {
+        Method isHidden;
+        try {
+            isHidden = Class.class.getMethod("isHidden");
+        } catch (NoSuchMethodException e) {
+            // JDK15以下定义到ClassLoader中
+            Assume.assumeTrue(false);
+            return;
+        }
+        SessionVisitor visitor = LinkerFactory.createLinker(SessionVisitor.class, new Session());
+        Assert.assertEquals("t-1", visitor.getToken());
+        Assert.assertTrue((Boolean) isHidden.invoke(visitor.getClass()));
+        Assert.assertEquals(SessionVisitor.class.getClassLoader(), visitor.getClass().getClassLoader());
+
+        // 同一个实现类只定义一次
+        Assert.assertSame(visitor.getClass(), LinkerFactory.createLinker(SessionVisitor.class, new Session()).getClass());
+        try {
+            Class.forName(visitor.getClass().getName(), false, SessionVisitor.class.getClassLoader());
+            Assert.fail();
+        } catch (ClassNotFoundException expected) {
+        }
+    }
+
+    @Test
+    public void testUnload() throws Exception {
+        WeakReference<ClassLoader> loader = createAndDrop(SessionVisitor.class.getName(), RuntimeSessionVisitor.class.getName());
+        // 解析缓存和隐藏类的保留都不会阻止define所在的ClassLoader卸载
+        assertUnloaded(loader);
+    }
+
+    @Test
+    public void testUnloadTiered() throws Exception {
+        // 超过阈值之后升级为早绑定的实现类, 目标类Session由父级加载, 统计不能保存在Session上
+        int count = Math.max(Integer.getInteger("linker.tiered.threshold", 64), 0)+1;
+        assertUnloaded(createAndDrop(count, RuntimeSessionVisitor.class.getName()));
+    }
+
+    @Test
+    public void testUnloadLinkerCache() throws Exception {
+        // 返回值的目标类String由启动类加载器加载, 工厂不能保存在String上
+        assertUnloaded(createTokenAndDrop());
+    }
+
+    private static void assertUnloaded(WeakReference<ClassLoader> loader) throws InterruptedException {
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertNull(loader.get());
+    }
+
+    private WeakReference<ClassLoader> createTokenAndDrop() throws Exception {
+        String[] defines = {SessionTokenVisitor.class.getName(), TokenVisitor.class.getName()};
+        ClassLoader cl = new ChildFirstClassLoader(new URL[]{classpath()}, getClass().getClassLoader(), defines);
+        Class<?> defineClass = cl.loadClass(defines[0]);
+        Object visitor = LinkerFactory.createLinker(defineClass, new Session());
+        Object token = defineClass.getMethod("token").invoke(visitor);
+        Assert.assertSame(cl, token.getClass().getInterfaces()[0].getClassLoader());
+        Assert.assertEquals(3, cl.loadClass(defines[1]).getMethod("length").invoke(token));
+        return new WeakReference<>(cl);
+    }
+
+    private WeakReference<ClassLoader> createAndDrop(String... defines) throws Exception {
+        return createAndDrop(1, defines);
+    }
+
+    private WeakReference<ClassLoader> createAndDrop(int count, String... defines) throws Exception {
+        ClassLoader cl = new ChildFirstClassLoader(new URL[]{classpath()}, getClass().getClassLoader(), defines);
+        for (String define : defines) {
+            Class<?> defineClass = cl.loadClass(define);
+            Assert.assertSame(cl, defineClass.getClassLoader());
+            for (int i = 0; i < count; i++) {
+                Object visitor = LinkerFactory.createLinker(defineClass, new Session());
+                Assert.assertEquals("t-1", defineClass.getMethod("getToken").invoke(visitor));
+            }
+        }
+        return new WeakReference<>(cl);
+    }
+
+    private static URL classpath() {
+        return SessionVisitor.class.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    /**
+     * 只有define接口由自己加载
+     */
+    private static class ChildFirstClassLoader extends URLClassLoader {
+        private final String[] defines;
+
+        ChildFirstClassLoader(URL[] urls, ClassLoader parent, String[] defines) {
+            super(urls, parent);
+            this.defines = defines;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            for (String define : defines) {
+                if (define.equals(name)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        Class<?> clazz = findLoadedClass(name);
+                        return clazz != null ? clazz : findClass(name);
+                    }
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+}
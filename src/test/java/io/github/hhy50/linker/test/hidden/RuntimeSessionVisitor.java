@@ -0,0 +1,11 @@
+package io.github.hhy50.linker.test.hidden;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Runtime;
+
+@Runtime
+public interface RuntimeSessionVisitor {
+
+    @Field.Getter("token")
+    String getToken();
+}
@@ -0,0 +1,5 @@
+package io.github.hhy50.linker.test.hidden;
+
+public class Session {
+    private String token = "t-1";
+}
@@ -0,0 +1,12 @@
+package io.github.hhy50.linker.test.hidden;
+
+import io.github.hhy50.linker.annotations.Field;
+
+public interface SessionTokenVisitor {
+
+    /**
+     * 返回值通过实现类中的LinkerCache创建, 目标类是String
+     */
+    @Field.Getter("token")
+    TokenVisitor token();
+}
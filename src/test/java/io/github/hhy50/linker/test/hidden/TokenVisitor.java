@@ -0,0 +1,9 @@
+package io.github.hhy50.linker.test.hidden;
+
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("java.lang.String")
+public interface TokenVisitor {
+
+    int length();
+}
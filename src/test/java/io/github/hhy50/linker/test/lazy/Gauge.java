@@ -0,0 +1,11 @@
+package io.github.hhy50.linker.test.lazy;
+
+public class Gauge {
+    private String name = "g1";
+
+    private long value = 3;
+
+    private Reading reading;
+
+    private Reading last;
+}
@@ -0,0 +1,23 @@
+package io.github.hhy50.linker.test.lazy;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("io.github.hhy50.linker.test.lazy.Gauge")
+public interface GaugeVisitor {
+
+    @Field.Getter("name")
+    String getName();
+
+    @Field.Getter("value")
+    long getValue();
+
+    @Field.Setter("value")
+    void setValue(long value);
+
+    @Field.Getter("reading")
+    Object getReading();
+
+    @Field.Getter("last")
+    Object getLast();
+}
@@ -0,0 +1,79 @@
+package io.github.hhy50.linker.test.lazy;
+
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.runtime.LazyHandles;
+import io.github.hhy50.linker.test.Bytecodes;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LazyHandlesTest {
+
+    /**
+     * 实现类在运行时看不到字段的类型Reading, 只有用到这个字段的方法失败, 其他方法不受影响
+     */
+    @Test
+    public void testUnresolvableMember() throws Exception {
+        Assume.assumeTrue(LazyHandles.ENABLED);
+        byte[] bytecode = ClassDefineParse.generateBytecode(GaugeVisitor.class, Gauge.class, Gauge.class.getClassLoader()).getBytecode();
+        Assert.assertTrue(Bytecodes.constantDynamics(bytecode).containsAll(Arrays.asList("reading", "last")));
+
+        URL classpath = Gauge.class.getProtectionDomain().getCodeSource().getLocation();
+        MissingReadingClassLoader cl = new MissingReadingClassLoader(new URL[]{classpath}, getClass().getClassLoader());
+        Class<?> implClass = cl.define(bytecode);
+        Object gauge = cl.loadClass(Gauge.class.getName()).getDeclaredConstructor().newInstance();
+        GaugeVisitor visitor = (GaugeVisitor) implClass.getConstructor(Object.class).newInstance(gauge);
+
+        Assert.assertEquals("g1", visitor.getName());
+        visitor.setValue(5);
+        Assert.assertEquals(5, visitor.getValue());
+        // 没有调用过的reading和last都没有解析
+        Assert.assertFalse(cl.requested.contains(Reading.class.getName()));
+
+        try {
+            visitor.getReading();
+            Assert.fail();
+        } catch (LinkageError e) {
+            Assert.assertTrue(cl.requested.contains(Reading.class.getName()));
+        }
+        // 失败的成员不影响已经解析过的成员
+        Assert.assertEquals("g1", visitor.getName());
+        Assert.assertEquals(5, visitor.getValue());
+    }
+
+    /**
+     * Gauge由自己加载, 找不到Reading
+     */
+    private static class MissingReadingClassLoader extends URLClassLoader {
+        private final List<String> requested = new ArrayList<>();
+
+        MissingReadingClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        Class<?> define(byte[] bytecode) {
+            return defineClass(null, bytecode, 0, bytecode.length);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            requested.add(name);
+            if (name.equals(Reading.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (name.equals(Gauge.class.getName())) {
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> clazz = findLoadedClass(name);
+                    return clazz != null ? clazz : findClass(name);
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+}
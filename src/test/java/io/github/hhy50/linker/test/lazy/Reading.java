@@ -0,0 +1,4 @@
+package io.github.hhy50.linker.test.lazy;
+
+public class Reading {
+}
@@ -0,0 +1,26 @@
+package io.github.hhy50.linker.test.nest.case1;
+
+import io.github.hhy50.linker.annotations.Field;
+
+/**
+ * <p>ChainVisitor interface.</p>
+ * 链上的字段都在声明类型中, 全部早绑定
+ */
+public interface ChainVisitor {
+
+    /**
+     * <p>getStr.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    @Field.Getter("a.b.c.str")
+    String getStr();
+
+    /**
+     * <p>setB.</p>
+     *
+     * @param b a {@link java.lang.Object} object.
+     */
+    @Field.Setter("a.b")
+    void setB(Object b);
+}
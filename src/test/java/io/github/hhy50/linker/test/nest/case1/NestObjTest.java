@@ -5,6 +5,8 @@ import io.github.hhy50.linker.exceptions.LinkerException;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
+
 
 /**
  * <p>NestObjTest class.</p>
@@ -119,4 +121,26 @@ public class NestObjTest {
         Assert.assertEquals(obj.getStr2(), str2);
         Assert.assertEquals(obj.getD(), d);
     }
+
+    /**
+     * 早绑定的链式字段在调用方展开, 中间对象为null时抛出带名字的NullPointerException
+     *
+     * @throws LinkerException if any.
+     */
+    @Test
+    public void test3() throws LinkerException {
+        ChainVisitor obj = LinkerFactory.createLinker(ChainVisitor.class, new Obj());
+        for (Method method : obj.getClass().getDeclaredMethods()) {
+            Assert.assertFalse(method.getName(), method.getName().startsWith("get_"));
+        }
+        Assert.assertNotNull(obj.getStr());
+
+        obj.setB(null);
+        try {
+            obj.getStr();
+            Assert.fail("expect NullPointerException");
+        } catch (NullPointerException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("b"));
+        }
+    }
 }
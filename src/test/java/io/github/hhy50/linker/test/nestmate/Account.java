@@ -0,0 +1,16 @@
+package io.github.hhy50.linker.test.nestmate;
+
+public class Account {
+    private String owner;
+    private long balance;
+    int version;
+
+    public Account(String owner) {
+        this.owner = owner;
+    }
+
+    private long deposit(long amount) {
+        version++;
+        return balance += amount;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.hhy50.linker.test.nestmate;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("io.github.hhy50.linker.test.nestmate.Account")
+public interface AccountVisitor {
+
+    @Field.Getter("owner")
+    String getOwner();
+
+    @Field.Getter("balance")
+    long getBalance();
+
+    @Field.Setter("balance")
+    void setBalance(long balance);
+
+    @Field.Getter("version")
+    int getVersion();
+
+    long deposit(long amount);
+}
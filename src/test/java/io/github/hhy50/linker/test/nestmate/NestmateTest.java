@@ -0,0 +1,43 @@
+package io.github.hhy50.linker.test.nestmate;
+
+import io.github.hhy50.linker.LinkerFactory;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+public class NestmateTest {
+
+    @Test
+    public void test() throws Exception {
+        Method getNestHost;
+        try {
+            Class.class.getMethod("isHidden");
+            getNestHost = Class.class.getMethod("getNestHost");
+        } catch (NoSuchMethodException e) {
+            // JDK15以下不支持
+            Assume.assumeTrue(false);
+            return;
+        }
+        AccountVisitor visitor;
+        System.setProperty("linker.hidden.nestmate", "true");
+        try {
+            visitor = LinkerFactory.createLinker(AccountVisitor.class, new Account("tom"));
+        } finally {
+            System.clearProperty("linker.hidden.nestmate");
+        }
+        Assert.assertEquals("tom", visitor.getOwner());
+        visitor.setBalance(10);
+        Assert.assertEquals(15, visitor.deposit(5));
+        Assert.assertEquals(15, visitor.getBalance());
+        Assert.assertEquals(1, visitor.getVersion());
+
+        Assert.assertSame(Account.class, getNestHost.invoke(visitor.getClass()));
+        Assert.assertSame(Account.class.getClassLoader(), visitor.getClass().getClassLoader());
+        // private成员都是直接访问的
+        Assert.assertTrue(Arrays.stream(visitor.getClass().getDeclaredFields()).noneMatch(field -> field.getType() == MethodHandle.class));
+    }
+}
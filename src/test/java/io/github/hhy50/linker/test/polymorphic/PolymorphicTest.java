@@ -0,0 +1,70 @@
+package io.github.hhy50.linker.test.polymorphic;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class PolymorphicTest {
+
+    @Test
+    public void test() throws LinkerException {
+        Shapes holder = new Shapes();
+        ShapesVisitor visitor = LinkerFactory.createLinker(ShapesVisitor.class, holder);
+        doTest(holder, visitor::getName, visitor::setName, visitor::describe);
+    }
+
+    @Test
+    public void testInvokeDynamic() throws LinkerException {
+        Shapes holder = new Shapes();
+        IndyShapesVisitor visitor = LinkerFactory.createLinker(IndyShapesVisitor.class, holder);
+        doTest(holder, visitor::getName, visitor::setName, visitor::describe);
+    }
+
+    @Test
+    public void testNullReceiver() throws LinkerException {
+        ShapesVisitor visitor = LinkerFactory.createLinker(ShapesVisitor.class, new Shapes());
+        assertNullReceiver(visitor::getName);
+        assertNullReceiver(visitor::describe);
+        assertNullReceiver(() -> visitor.setName("null"));
+
+        IndyShapesVisitor indyVisitor = LinkerFactory.createLinker(IndyShapesVisitor.class, new Shapes());
+        assertNullReceiver(indyVisitor::getName);
+        assertNullReceiver(indyVisitor::describe);
+    }
+
+    private void assertNullReceiver(Runnable call) {
+        try {
+            call.run();
+            Assert.fail("expect NullPointerException");
+        } catch (NullPointerException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("shape"));
+        }
+    }
+
+    private void doTest(Shapes holder, Supplier<String> getName, Consumer<String> setName, Supplier<String> describe) {
+        Object[] shapes = new Object[]{new Shapes.Circle(), new Shapes.Square(), new Shapes.Triangle(),
+                new Shapes.Hexagon(), new Shapes.Ellipse(), new Shapes.Polygon()};
+        String[] names = new String[]{"circle", "square", "triangle", "hexagon", "ellipse", "polygon"};
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < shapes.length; i++) {
+                holder.setShape(shapes[i]);
+                Assert.assertEquals(names[i], getName.get());
+                Assert.assertEquals(names[i]+":"+names[i], describe.get());
+            }
+        }
+
+        for (int i = 0; i < shapes.length; i++) {
+            holder.setShape(shapes[i]);
+            setName.accept("new_"+names[i]);
+        }
+        for (int i = 0; i < shapes.length; i++) {
+            holder.setShape(shapes[i]);
+            Assert.assertEquals("new_"+names[i], getName.get());
+        }
+    }
+}
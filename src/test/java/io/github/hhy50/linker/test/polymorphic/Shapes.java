@@ -0,0 +1,34 @@
+package io.github.hhy50.linker.test.polymorphic;
+
+public class Shapes {
+    static class Circle {
+        private String name = "circle";
+        String describe() { return "circle:"+name; }
+    }
+    static class Square {
+        private String name = "square";
+        String describe() { return "square:"+name; }
+    }
+    static class Triangle {
+        private String name = "triangle";
+        String describe() { return "triangle:"+name; }
+    }
+    static class Hexagon {
+        private String name = "hexagon";
+        String describe() { return "hexagon:"+name; }
+    }
+    static class Ellipse {
+        private String name = "ellipse";
+        String describe() { return "ellipse:"+name; }
+    }
+    static class Polygon {
+        private String name = "polygon";
+        String describe() { return "polygon:"+name; }
+    }
+
+    private Object shape;
+
+    public void setShape(Object shape) {
+        this.shape = shape;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.hhy50.linker.test.polymorphic;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Method;
+
+public interface ShapesVisitor {
+
+    @Field.Getter("shape.name")
+    String getName();
+
+    @Field.Setter("shape.name")
+    void setName(String name);
+
+    @Method.Name("shape.describe")
+    String describe();
+}
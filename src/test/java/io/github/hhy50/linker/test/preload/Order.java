@@ -0,0 +1,6 @@
+package io.github.hhy50.linker.test.preload;
+
+public class Order {
+    private String id = "order-1";
+    private int amount;
+}
@@ -0,0 +1,17 @@
+package io.github.hhy50.linker.test.preload;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Target;
+
+@Target.Bind("io.github.hhy50.linker.test.preload.Order")
+public interface OrderVisitor {
+
+    @Field.Getter("id")
+    String getId();
+
+    @Field.Setter("amount")
+    void setAmount(int amount);
+
+    @Field.Getter("amount")
+    int getAmount();
+}
@@ -0,0 +1,57 @@
+package io.github.hhy50.linker.test.preload;
+
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.PreloadReport;
+import io.github.hhy50.linker.define.ClassDefineParse;
+import io.github.hhy50.linker.util.ClassScanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashSet;
+import java.util.Set;
+
+public class PreloadTest {
+
+    @Test
+    public void test() throws Exception {
+        PreloadReport report = LinkerFactory.preloadAsync(getClass().getClassLoader(), getClass().getPackage().getName()).get();
+        Assert.assertTrue(report.getFailures().isEmpty());
+
+        Set<Class<?>> defines = new HashSet<>();
+        for (PreloadReport.Entry entry : report.getEntries()) {
+            Assert.assertTrue(entry.getNanos() > 0);
+            defines.add(entry.getDefine());
+        }
+        Assert.assertTrue(defines.contains(OrderVisitor.class));
+        Assert.assertTrue(defines.contains(RuntimeOrderVisitor.class));
+        Assert.assertFalse(defines.contains(Order.class));
+
+        OrderVisitor visitor = LinkerFactory.createLinker(OrderVisitor.class, new Order());
+        Assert.assertEquals("order-1", visitor.getId());
+        visitor.setAmount(10);
+        Assert.assertEquals(10, visitor.getAmount());
+        Assert.assertEquals("order-1", LinkerFactory.createLinker(RuntimeOrderVisitor.class, new Order()).getId());
+        // 预热和createLinker命中同一个解析结果
+        Assert.assertSame(ClassDefineParse.parseClass(RuntimeOrderVisitor.class, Object.class),
+                ClassDefineParse.parseClass(RuntimeOrderVisitor.class, Order.class));
+
+        // 没有声明@Target.Bind的接口记录为失败, 不影响其他接口
+        report = LinkerFactory.preload(OrderVisitor.class, Runnable.class);
+        Assert.assertEquals(2, report.getEntries().size());
+        Assert.assertEquals(1, report.getFailures().size());
+        Assert.assertEquals(Runnable.class, report.getFailures().get(0).getDefine());
+    }
+
+    @Test
+    public void testScanRoot() throws Exception {
+        // 包名为空时扫描classpath的根目录
+        URL classpath = Order.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader cl = new URLClassLoader(new URL[]{classpath}, null)) {
+            Set<String> classNames = ClassScanner.scan(cl, "");
+            Assert.assertTrue(classNames.contains(Order.class.getName()));
+            Assert.assertTrue(classNames.contains(OrderVisitor.class.getName()));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.hhy50.linker.test.preload;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Runtime;
+
+@Runtime
+public interface RuntimeOrderVisitor {
+
+    @Field.Getter("id")
+    String getId();
+}
@@ -0,0 +1,18 @@
+package io.github.hhy50.linker.test.tiered;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Runtime;
+import io.github.hhy50.linker.annotations.Typed;
+
+/**
+ * 目标类的x不是String, 早绑定的实现类生成失败
+ */
+@Runtime
+@Typed(name = "x", type = "java.lang.String")
+public interface LabelVisitor {
+
+    @Field.Getter("x")
+    Object getX();
+
+    String name();
+}
@@ -0,0 +1,9 @@
+package io.github.hhy50.linker.test.tiered;
+
+public class Point {
+    private int x;
+
+    private String name() {
+        return "point";
+    }
+}
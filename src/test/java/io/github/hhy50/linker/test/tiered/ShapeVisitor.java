@@ -0,0 +1,16 @@
+package io.github.hhy50.linker.test.tiered;
+
+import io.github.hhy50.linker.annotations.Field;
+import io.github.hhy50.linker.annotations.Runtime;
+
+@Runtime
+public interface ShapeVisitor {
+
+    @Field.Getter("x")
+    int getX();
+
+    @Field.Setter("x")
+    void setX(int x);
+
+    String name();
+}
@@ -0,0 +1,9 @@
+package io.github.hhy50.linker.test.tiered;
+
+public class Square {
+    private int x;
+
+    private String name() {
+        return "square";
+    }
+}
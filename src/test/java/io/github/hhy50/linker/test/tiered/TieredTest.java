@@ -0,0 +1,84 @@
+package io.github.hhy50.linker.test.tiered;
+
+import io.github.hhy50.linker.LinkerCache;
+import io.github.hhy50.linker.LinkerFactory;
+import io.github.hhy50.linker.exceptions.LinkerException;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class TieredTest {
+
+    /**
+     * 和TieredFactories.THRESHOLD的默认值一致
+     */
+    private static final int THRESHOLD = Integer.getInteger("linker.tiered.threshold", 64);
+
+    @Test
+    public void testPromote() throws LinkerException {
+        Assume.assumeTrue(THRESHOLD > 0);
+        // 目标类是Object时只有运行时实现
+        Class<?> runtimeImpl = LinkerFactory.createLinker(ShapeVisitor.class, new Object()).getClass();
+        // 达到阈值之前使用运行时实现
+        for (int i = 1; i < THRESHOLD; i++) {
+            ShapeVisitor visitor = LinkerFactory.createLinker(ShapeVisitor.class, new Point());
+            Assert.assertSame(runtimeImpl, visitor.getClass());
+            visitor.setX(i);
+            Assert.assertEquals(i, visitor.getX());
+        }
+        // 达到阈值之后使用早绑定的实现类
+        ShapeVisitor visitor = LinkerFactory.createLinker(ShapeVisitor.class, new Point());
+        Assert.assertNotSame(runtimeImpl, visitor.getClass());
+        Assert.assertSame(visitor.getClass(), LinkerFactory.createLinker(ShapeVisitor.class, new Point()).getClass());
+        visitor.setX(10);
+        Assert.assertEquals(10, visitor.getX());
+        Assert.assertEquals("point", visitor.name());
+
+        // 其他目标类不会使用这个目标类的实现
+        ShapeVisitor circle = LinkerFactory.createLinker(ShapeVisitor.class, new Circle());
+        Assert.assertNotSame(visitor.getClass(), circle.getClass());
+        if (THRESHOLD > 1) {
+            Assert.assertSame(runtimeImpl, circle.getClass());
+        }
+        circle.setX(5);
+        Assert.assertEquals(5, circle.getX());
+        Assert.assertEquals("circle", circle.name());
+    }
+
+    @Test
+    public void testLinkerCache() throws LinkerException {
+        Assume.assumeTrue(THRESHOLD > 0);
+        LinkerCache cache = LinkerCache.of(ShapeVisitor.class);
+        Class<?> runtimeImpl = cache.create(new Object()).getClass();
+        for (int i = 1; i < THRESHOLD; i++) {
+            Assert.assertSame(runtimeImpl, cache.create(new Square()).getClass());
+        }
+        ShapeVisitor visitor = (ShapeVisitor) cache.create(new Square());
+        Assert.assertNotSame(runtimeImpl, visitor.getClass());
+        Assert.assertEquals("square", visitor.name());
+    }
+
+    @Test
+    public void testPromoteFailed() throws LinkerException {
+        Assume.assumeTrue(THRESHOLD > 0);
+        Class<?> runtimeImpl = LinkerFactory.createLinker(LabelVisitor.class, new Object()).getClass();
+        for (int i = 0; i < THRESHOLD+10; i++) {
+            LabelVisitor visitor = LinkerFactory.createLinker(LabelVisitor.class, new Point());
+            // 生成失败之后一直使用运行时实现
+            Assert.assertSame(runtimeImpl, visitor.getClass());
+            Assert.assertEquals("point", visitor.name());
+        }
+    }
+
+    @Test
+    public void testDisabled() throws LinkerException {
+        Assume.assumeTrue(THRESHOLD <= 0);
+        // 关闭分层时所有目标类都使用运行时实现
+        Class<?> runtimeImpl = LinkerFactory.createLinker(ShapeVisitor.class, new Object()).getClass();
+        LinkerCache cache = LinkerCache.of(ShapeVisitor.class);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(runtimeImpl, LinkerFactory.createLinker(ShapeVisitor.class, new Point()).getClass());
+            Assert.assertSame(runtimeImpl, cache.create(new Circle()).getClass());
+        }
+    }
+}